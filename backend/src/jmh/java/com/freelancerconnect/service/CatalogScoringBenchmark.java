@@ -0,0 +1,78 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring the whole catalog for one freelancer, as GET /api/jobs/all does:
+ * cold (every score recomputed) serially and in parallel, and warm (served
+ * from the {@link MatchScoreStore}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CatalogScoringBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int catalogSize;
+
+    private Freelancer freelancer;
+    private List<Job> catalog;
+    private MatchScoreStore serialStore;
+    private MatchScoreStore parallelStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog synthetic = new SyntheticCatalog(7);
+        freelancer = synthetic.freelancer(1);
+        catalog = synthetic.jobs(catalogSize);
+
+        SkillDictionary skillDictionary = new SkillDictionary();
+        JobService jobService = SyntheticCatalog.jobService(skillDictionary,
+                SyntheticCatalog.freelancerSkillIndex(skillDictionary, List.of(freelancer)));
+        serialStore = SyntheticCatalog.matchScoreStore(jobService, 1, Integer.MAX_VALUE);
+        parallelStore = SyntheticCatalog.matchScoreStore(jobService, 0, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serialStore.stopScoringPool();
+        parallelStore.stopScoringPool();
+    }
+
+    @Benchmark
+    public double[] scoreCatalogSerial() {
+        serialStore.clear();
+        return serialStore.getScores(freelancer, catalog);
+    }
+
+    @Benchmark
+    public double[] scoreCatalogParallel() {
+        parallelStore.clear();
+        return parallelStore.getScores(freelancer, catalog);
+    }
+
+    @Benchmark
+    public double[] scoreCatalogFromStore() {
+        return parallelStore.getScores(freelancer, catalog);
+    }
+}
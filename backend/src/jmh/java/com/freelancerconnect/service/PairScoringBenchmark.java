@@ -0,0 +1,55 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one freelancer/job pair with
+ * {@link JobService#calculateMatchPercentage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairScoringBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private Freelancer[] freelancers;
+    private Job[] jobs;
+    private JobService jobService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(42);
+        List<Freelancer> freelancerList = catalog.freelancers(PAIRS);
+        freelancers = freelancerList.toArray(new Freelancer[0]);
+        jobs = catalog.jobs(PAIRS).toArray(new Job[0]);
+
+        SkillDictionary skillDictionary = new SkillDictionary();
+        jobService = SyntheticCatalog.jobService(skillDictionary,
+                SyntheticCatalog.freelancerSkillIndex(skillDictionary, freelancerList));
+    }
+
+    @Benchmark
+    public double calculateMatchPercentage() {
+        int i = next++ & (PAIRS - 1);
+        return jobService.calculateMatchPercentage(freelancers[i], jobs[(i * 31) & (PAIRS - 1)]);
+    }
+}
@@ -0,0 +1,124 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic freelancers and jobs for the matching benchmarks,
+ * plus the wiring of the matching beans without a Spring context.
+ */
+final class SyntheticCatalog {
+
+    private static final String[] LEVELS = { "BEGINNER", "INTERMEDIATE", "EXPERT" };
+    private static final String[] CATEGORIES = { "Web", "Mobile", "Data", "Design", "Writing", "DevOps" };
+    private static final int VOCABULARY_SIZE = 600;
+
+    private final Random random;
+    private final String[] vocabulary = new String[VOCABULARY_SIZE];
+
+    SyntheticCatalog(long seed) {
+        random = new Random(seed);
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(3 + random.nextInt(8));
+        }
+    }
+
+    Freelancer freelancer(long id) {
+        Freelancer freelancer = new Freelancer();
+        freelancer.setId(id);
+        freelancer.setSkills(skillList(3 + random.nextInt(10)));
+        freelancer.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        freelancer.setExperienceLevel(LEVELS[random.nextInt(LEVELS.length)]);
+        return freelancer;
+    }
+
+    Job job(long id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(vocabulary[random.nextInt(60)] + " " + vocabulary[random.nextInt(VOCABULARY_SIZE)] + " developer");
+        job.setDescription(description(80 + random.nextInt(220)));
+        job.setRequiredSkills(skillList(2 + random.nextInt(7)));
+        job.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        job.setExperienceLevel(LEVELS[random.nextInt(LEVELS.length)]);
+        job.setBudget(50.0 + random.nextInt(5000));
+        return job;
+    }
+
+    List<Freelancer> freelancers(int count) {
+        List<Freelancer> freelancers = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            freelancers.add(freelancer(i));
+        }
+        return freelancers;
+    }
+
+    List<Job> jobs(int count) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            jobs.add(job(i));
+        }
+        return jobs;
+    }
+
+    static JobService jobService(SkillDictionary skillDictionary, FreelancerSkillIndex freelancerSkillIndex) {
+        JobKeywordIndex jobKeywordIndex = new JobKeywordIndex();
+        ReflectionTestUtils.setField(jobKeywordIndex, "skillDictionary", skillDictionary);
+
+        JobService jobService = new JobService();
+        ReflectionTestUtils.setField(jobService, "skillDictionary", skillDictionary);
+        ReflectionTestUtils.setField(jobService, "jobKeywordIndex", jobKeywordIndex);
+        ReflectionTestUtils.setField(jobService, "freelancerSkillIndex", freelancerSkillIndex);
+        return jobService;
+    }
+
+    static FreelancerSkillIndex freelancerSkillIndex(SkillDictionary skillDictionary, List<Freelancer> freelancers) {
+        FreelancerSkillIndex index = new FreelancerSkillIndex();
+        ReflectionTestUtils.setField(index, "skillDictionary", skillDictionary);
+        freelancers.forEach(index::update);
+        return index;
+    }
+
+    static MatchScoreStore matchScoreStore(JobService jobService, int parallelism, int parallelThreshold) {
+        MatchScoreStore store = new MatchScoreStore();
+        ReflectionTestUtils.setField(store, "jobService", jobService);
+        ReflectionTestUtils.setField(store, "parallelism", parallelism);
+        ReflectionTestUtils.setField(store, "parallelThreshold", parallelThreshold);
+        store.startScoringPool();
+        return store;
+    }
+
+    private String skillList(int size) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                skills.append(", ");
+            }
+            // Skew towards the head of the vocabulary so popular skills have long postings
+            int rank = (int) (VOCABULARY_SIZE * Math.pow(random.nextDouble(), 2));
+            skills.append(vocabulary[rank]);
+        }
+        return skills.toString();
+    }
+
+    private String description(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(random.nextInt(4) == 0 ? vocabulary[random.nextInt(VOCABULARY_SIZE)] : word(2 + random.nextInt(7)));
+            text.append(i % 15 == 14 ? ". " : " ");
+        }
+        return text.toString();
+    }
+
+    private String word(int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,59 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JobService#countMatchingFreelancers} and the talent pool histogram
+ * over a synthetic freelancer population.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TalentPoolBenchmark {
+
+    private static final int JOBS = 256;
+
+    @Param({ "10000", "100000" })
+    private int populationSize;
+
+    private Job[] jobs;
+    private JobService jobService;
+    private FreelancerSkillIndex freelancerSkillIndex;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(11);
+        SkillDictionary skillDictionary = new SkillDictionary();
+        freelancerSkillIndex = SyntheticCatalog.freelancerSkillIndex(skillDictionary,
+                catalog.freelancers(populationSize));
+        jobService = SyntheticCatalog.jobService(skillDictionary, freelancerSkillIndex);
+        jobs = catalog.jobs(JOBS).toArray(new Job[0]);
+    }
+
+    @Benchmark
+    public long countMatchingFreelancers() {
+        return jobService.countMatchingFreelancers(jobs[next++ & (JOBS - 1)]);
+    }
+
+    @Benchmark
+    public FreelancerSkillIndex.TalentPool talentPool() {
+        return freelancerSkillIndex.talentPool(jobs[next++ & (JOBS - 1)].getRequiredSkills());
+    }
+}
@@ -6,9 +6,17 @@ import com.freelancerconnect.entity.Freelancer;
 import com.freelancerconnect.entity.Job;
 import com.freelancerconnect.entity.Application;
 import com.freelancerconnect.repository.*;
+import com.freelancerconnect.service.AdminExportService;
+import com.freelancerconnect.service.ApplicationRescorer;
+import com.freelancerconnect.service.EntityCache;
+import com.freelancerconnect.service.FreelancerService;
+import com.freelancerconnect.service.JobService;
+import com.freelancerconnect.service.OutboxWorker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,6 +42,24 @@ public class AdminController {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private FreelancerService freelancerService;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private OutboxWorker outboxWorker;
+
+    @Autowired
+    private ApplicationRescorer applicationRescorer;
+
     // --- Stats ---
     @GetMapping("/stats")
     public ResponseEntity<?> getStats() {
@@ -48,6 +74,24 @@ public class AdminController {
                 "totalApplications", applications));
     }
 
+    // Hit/miss counters of the job and freelancer caches
+    @GetMapping("/cache-stats")
+    public Map<String, Map<String, Object>> getCacheStats() {
+        return entityCache.stats();
+    }
+
+    // Backlog and delivery counters of the domain event outbox
+    @GetMapping("/outbox-stats")
+    public Map<String, Object> getOutboxStats() {
+        return outboxWorker.stats();
+    }
+
+    // Progress of the background rescoring of stored match percentages
+    @GetMapping("/rescoring-stats")
+    public Map<String, Object> getRescoringStats() {
+        return applicationRescorer.stats();
+    }
+
     @PutMapping("/profile/{id}")
     public ResponseEntity<?> updateAdmin(@PathVariable Long id, @RequestBody Admin details) {
         return adminRepository.findById(id).map(a -> {
@@ -60,13 +104,13 @@ public class AdminController {
 
     // --- Freelancer Management ---
     @GetMapping("/freelancers")
-    public List<Freelancer> getAllFreelancers() {
-        return freelancerRepository.findAll();
+    public List<com.freelancerconnect.dto.FreelancerSummary> getAllFreelancers() {
+        return freelancerRepository.findSummariesBy();
     }
 
     @GetMapping("/freelancers/{id}")
     public ResponseEntity<Freelancer> getFreelancer(@PathVariable Long id) {
-        return freelancerRepository.findById(id)
+        return entityCache.findFreelancer(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -79,7 +123,7 @@ public class AdminController {
             f.setSkills(details.getSkills());
             f.setExperienceLevel(details.getExperienceLevel());
             f.setUpdatedAt(LocalDateTime.now());
-            freelancerRepository.save(f);
+            freelancerService.saveFreelancer(f);
             return ResponseEntity.ok(f);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -92,7 +136,7 @@ public class AdminController {
             if (status.containsKey("isDeleted"))
                 f.setDeleted(status.get("isDeleted"));
             f.setUpdatedAt(LocalDateTime.now());
-            freelancerRepository.save(f);
+            freelancerService.saveFreelancer(f);
             return ResponseEntity.ok(f);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -129,8 +173,8 @@ public class AdminController {
 
     // --- Job Management ---
     @GetMapping("/jobs")
-    public List<Job> getAllJobs() {
-        return jobRepository.findAll();
+    public List<com.freelancerconnect.dto.JobSummary> getAllJobs() {
+        return jobRepository.findSummariesBy();
     }
 
     @PutMapping("/jobs/{id}")
@@ -143,7 +187,7 @@ public class AdminController {
             j.setRequiredSkills(details.getRequiredSkills());
             j.setCategory(details.getCategory());
             j.setExperienceLevel(details.getExperienceLevel());
-            jobRepository.save(j);
+            jobService.saveJob(j);
             return ResponseEntity.ok(j);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -153,11 +197,33 @@ public class AdminController {
         return jobRepository.findById(id).map(j -> {
             if (status.containsKey("status"))
                 j.setStatus(status.get("status"));
-            jobRepository.save(j);
+            jobService.saveJob(j);
             return ResponseEntity.ok(j);
         }).orElse(ResponseEntity.notFound().build());
     }
 
+    // --- Exports ---
+    // Whole jobs, freelancers, clients or applications table as NDJSON (default) or CSV,
+    // written while it is read instead of being collected first
+    @GetMapping("/export/{dataset}")
+    public ResponseEntity<StreamingResponseBody> exportDataset(@PathVariable String dataset,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if (!adminExportService.hasDataset(dataset)) {
+            return ResponseEntity.notFound().build();
+        }
+        AdminExportService.Format exportFormat;
+        try {
+            exportFormat = AdminExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + dataset + "." + exportFormat.extension() + "\"")
+                .body(out -> adminExportService.export(dataset, exportFormat, out));
+    }
+
     // --- Application Management ---
     @GetMapping("/applications")
     public List<Application> getAllApplications() {
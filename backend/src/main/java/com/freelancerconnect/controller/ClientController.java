@@ -33,9 +33,7 @@ public class ClientController {
         long activeJobs = allJobs.stream()
                 .filter(j -> "OPEN".equalsIgnoreCase(j.getStatus()) || "IN_PROGRESS".equalsIgnoreCase(j.getStatus()))
                 .count();
-        long unreadNotifications = notificationRepository
-                .findByUserIdAndUserRoleOrderByCreatedAtDesc(clientId, "CLIENT").stream()
-                .filter(n -> !n.isRead()).count();
+        long unreadNotifications = notificationRepository.countByUserIdAndUserRoleAndIsReadFalse(clientId, "CLIENT");
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("activeJobs", activeJobs);
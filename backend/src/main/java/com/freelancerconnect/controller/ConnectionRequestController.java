@@ -19,14 +19,12 @@ public class ConnectionRequestController {
     @Autowired
     private com.freelancerconnect.service.NotificationService notificationService;
 
+    @Autowired
+    private com.freelancerconnect.service.ConnectionRequestService connectionRequestService;
+
     @PostMapping("/send")
     public ResponseEntity<?> sendRequest(@RequestBody ConnectionRequest request) {
-        request.setStatus("PENDING");
-        repository.save(request);
-
-        // Notify freelancer
-        notificationService.createNotification(request.getFreelancerId(), "FREELANCER",
-                "New connection request from client: " + request.getClientName(), "CONNECTION");
+        connectionRequestService.sendRequest(request);
 
         return ResponseEntity.ok("Connection request sent successfully!");
     }
@@ -20,6 +20,15 @@ public class FreelancerController {
     @Autowired
     private com.freelancerconnect.repository.FreelancerCertificationRepository certificationRepository;
 
+    @Autowired
+    private com.freelancerconnect.service.FreelancerService freelancerService;
+
+    @Autowired
+    private com.freelancerconnect.service.EntityCache entityCache;
+
+    @Autowired
+    private com.freelancerconnect.service.ResourceVersions resourceVersions;
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateFreelancer(@PathVariable Long id, @RequestBody Freelancer updatedFreelancer) {
         return freelancerRepository.findById(id).map(freelancer -> {
@@ -44,25 +53,31 @@ public class FreelancerController {
             if (updatedFreelancer.getProfileImage() != null) {
                 freelancer.setProfileImage(updatedFreelancer.getProfileImage());
             }
-            freelancerRepository.save(freelancer);
+            freelancerService.saveFreelancer(freelancer);
             return ResponseEntity.ok(freelancer);
         }).orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Freelancer> getFreelancer(@PathVariable Long id) {
-        return freelancerRepository.findById(id)
+        return entityCache.findFreelancer(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get detailed freelancer profile with projects and certifications
-     * Used by clients to view applicant profiles
+     * Used by clients to view applicant profiles; answers 304 while the
+     * If-None-Match ETag is current
      */
     @GetMapping("/{id}/profile")
-    public ResponseEntity<com.freelancerconnect.dto.FreelancerProfileDTO> getFreelancerProfile(@PathVariable Long id) {
-        return freelancerRepository.findById(id).map(freelancer -> {
+    public ResponseEntity<com.freelancerconnect.dto.FreelancerProfileDTO> getFreelancerProfile(@PathVariable Long id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String eTag = resourceVersions.profileETag(id);
+        if (com.freelancerconnect.service.ResourceVersions.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(org.springframework.http.HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return entityCache.findFreelancer(id).map(freelancer -> {
             com.freelancerconnect.dto.FreelancerProfileDTO profileDTO = new com.freelancerconnect.dto.FreelancerProfileDTO();
 
             // Basic info
@@ -114,13 +129,13 @@ public class FreelancerController {
                     .collect(java.util.stream.Collectors.toList());
             profileDTO.setCertifications(certifications);
 
-            return ResponseEntity.ok(profileDTO);
+            return ResponseEntity.ok().eTag(eTag).body(profileDTO);
         }).orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/all")
-    public java.util.List<Freelancer> getAllFreelancers() {
-        return freelancerRepository.findAll();
+    public java.util.List<com.freelancerconnect.dto.FreelancerSummary> getAllFreelancers() {
+        return freelancerRepository.findSummariesBy();
     }
 
     @PostMapping("/onboarding")
@@ -145,7 +160,7 @@ public class FreelancerController {
                 freelancer.setProfileCompleteness(100);
                 freelancer.setUpdatedAt(java.time.LocalDateTime.now());
 
-                freelancerRepository.save(freelancer);
+                freelancerService.saveFreelancer(freelancer);
 
                 // Save projects
                 if (request.getProjects() != null) {
@@ -171,6 +186,7 @@ public class FreelancerController {
                         certificationRepository.save(cert);
                     });
                 }
+                resourceVersions.profileChanged(freelancer.getId());
 
                 return ResponseEntity.ok("Onboarding completed successfully!");
             }).orElse(ResponseEntity.notFound().build());
@@ -185,6 +201,7 @@ public class FreelancerController {
         return freelancerRepository.findById(id).map(freelancer -> {
             cert.setFreelancerId(id);
             com.freelancerconnect.entity.FreelancerCertification saved = certificationRepository.save(cert);
+            resourceVersions.profileChanged(id);
             return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -196,6 +213,7 @@ public class FreelancerController {
                 return ResponseEntity.status(403).build();
             }
             certificationRepository.delete(cert);
+            resourceVersions.profileChanged(id);
             return ResponseEntity.ok().build();
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -206,6 +224,7 @@ public class FreelancerController {
         return freelancerRepository.findById(id).map(freelancer -> {
             project.setFreelancerId(id);
             com.freelancerconnect.entity.FreelancerProject saved = projectRepository.save(project);
+            resourceVersions.profileChanged(id);
             return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -217,6 +236,7 @@ public class FreelancerController {
                 return ResponseEntity.status(403).build();
             }
             projectRepository.delete(project);
+            resourceVersions.profileChanged(id);
             return ResponseEntity.ok().build();
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -237,6 +257,7 @@ public class FreelancerController {
             if (updatedProject.getAttachmentUrl() != null)
                 project.setAttachmentUrl(updatedProject.getAttachmentUrl());
             projectRepository.save(project);
+            resourceVersions.profileChanged(id);
             return ResponseEntity.ok(project);
         }).orElse(ResponseEntity.notFound().build());
     }
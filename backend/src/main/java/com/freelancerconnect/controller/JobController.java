@@ -11,9 +11,18 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/jobs")
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = JobController.NEXT_CURSOR_HEADER)
 public class JobController {
 
+    // Carries the cursor of the next page on paginated listings
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // Largest pages of /search and /all
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_LISTING_LIMIT = 100;
+
+    private static final int MAX_BATCH_SIZE = 100;
+
     @Autowired
     private JobRepository jobRepository;
 
@@ -21,14 +30,81 @@ public class JobController {
     private JobService jobService;
 
     @Autowired
-    private com.freelancerconnect.service.NotificationService notificationService;
+    private com.freelancerconnect.service.MatchScoreStore matchScoreStore;
+
+    @Autowired
+    private com.freelancerconnect.service.FreelancerSkillIndex freelancerSkillIndex;
+
+    @Autowired
+    private com.freelancerconnect.service.EntityCache entityCache;
+
+    @Autowired
+    private com.freelancerconnect.service.JobCatalog jobCatalog;
+
+    @Autowired
+    private com.freelancerconnect.service.ResourceVersions resourceVersions;
 
     @Autowired
-    private com.freelancerconnect.repository.FreelancerRepository freelancerRepository;
+    private com.freelancerconnect.service.JobApplicationCounters jobApplicationCounters;
 
+    // Pass limit (and the X-Next-Cursor of the previous response as cursor) to page through the results
     @GetMapping("/recommended/{freelancerId}")
-    public List<Job> getRecommendedJobs(@PathVariable Long freelancerId) {
-        return jobService.getRecommendedJobs(freelancerId);
+    public ResponseEntity<?> getRecommendedJobs(@PathVariable Long freelancerId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().body("limit must be positive");
+        }
+        try {
+            JobService.RecommendationPage page = jobService.getRecommendedJobs(freelancerId, limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.jobs());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Size of the talent pool for a (draft) list of required skills
+    @GetMapping("/talent-pool")
+    public com.freelancerconnect.service.FreelancerSkillIndex.TalentPool getTalentPool(
+            @RequestParam String requiredSkills) {
+        return freelancerSkillIndex.talentPool(requiredSkills);
+    }
+
+    // Counts of the active jobs per category, experience level, status and budget bucket
+    @GetMapping("/facets")
+    public java.util.Map<String, java.util.Map<String, Long>> getFacets() {
+        return jobCatalog.facets();
+    }
+
+    // Freelancers ranked by match percentage for a job; limit/cursor page through them like /recommended
+    @GetMapping("/{id}/candidates")
+    public ResponseEntity<?> getCandidates(@PathVariable Long id,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Integer minCompleteness) {
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().body("limit must be positive");
+        }
+        if (entityCache.findJob(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            JobService.CandidatePage page = jobService.getCandidates(id, limit, cursor, minRating, minCompleteness);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.candidates().stream()
+                    .map(this::toCandidateDTO)
+                    .collect(java.util.stream.Collectors.toList()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // Post a new job
@@ -43,7 +119,7 @@ public class JobController {
         }
 
         // Save the job
-        Job savedJob = jobRepository.save(job);
+        Job savedJob = jobService.saveJob(job);
 
         // Return with 201 Created status
         return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(savedJob);
@@ -51,56 +127,72 @@ public class JobController {
 
     // Get all jobs for a specific client
     @GetMapping("/client/{clientId}")
-    public List<Job> getClientJobs(@PathVariable Long clientId) {
-        return jobRepository.findByClientIdAndIsActiveTrueAndIsDeletedFalse(clientId);
+    public ResponseEntity<List<com.freelancerconnect.dto.ClientJobSummary>> getClientJobs(@PathVariable Long clientId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String eTag = resourceVersions.clientListingETag(clientId);
+        if (com.freelancerconnect.service.ResourceVersions.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(org.springframework.http.HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // Application counts come from memory, not from the applications table
+        List<com.freelancerconnect.dto.ClientJobSummary> jobs = jobRepository
+                .findByClientIdAndIsActiveTrueAndIsDeletedFalse(clientId).stream()
+                .map(summary -> {
+                    com.freelancerconnect.dto.ClientJobSummary card = new com.freelancerconnect.dto.ClientJobSummary();
+                    card.setJob(summary);
+                    card.setApplicationCounts(jobApplicationCounters.get(summary.getId()));
+                    return card;
+                })
+                .collect(java.util.stream.Collectors.toList());
+        return ResponseEntity.ok().eTag(eTag).body(jobs);
     }
 
-    // Get all jobs (for freelancers to see) with match percentage
+    // Get active jobs (for freelancers to see) with match percentage, newest first, a page at a
+    // time; pass the X-Next-Cursor of the previous response as cursor to get the next one
     @GetMapping("/all")
-    public ResponseEntity<?> getAllJobs(@RequestParam(required = false) Long freelancerId) {
-        // Only get active, non-deleted jobs
-        List<Job> jobs = jobRepository.findByIsActiveTrueAndIsDeletedFalse();
+    public ResponseEntity<?> getAllJobs(@RequestParam(required = false) Long freelancerId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) Double minBudget,
+            @RequestParam(required = false) Double maxBudget,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String skill) {
+        com.freelancerconnect.repository.JobListingFilter filter = new com.freelancerconnect.repository.JobListingFilter(
+                blankToNull(category), blankToNull(experienceLevel), minBudget, maxBudget, blankToNull(status),
+                blankToNull(skill));
+        if (limit < 1 || limit > MAX_LISTING_LIMIT) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + MAX_LISTING_LIMIT);
+        }
+        try {
+            JobService.JobListingPage page = jobService.listJobs(filter, limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(withMatchPercentages(page.jobs(), freelancerId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
+    // JobDTOs with the freelancer's match percentage, or the jobs as they are without a freelancer
+    private List<?> withMatchPercentages(List<Job> jobs, Long freelancerId) {
         // If freelancerId is provided, calculate match percentage for each job
         if (freelancerId != null) {
             try {
-                com.freelancerconnect.entity.Freelancer freelancer = freelancerRepository.findById(freelancerId)
+                com.freelancerconnect.entity.Freelancer freelancer = entityCache.findFreelancer(freelancerId)
                         .orElse(null);
 
                 if (freelancer != null) {
-                    List<com.freelancerconnect.dto.JobDTO> jobDTOs = jobs.stream()
-                            .map(job -> {
-                                com.freelancerconnect.dto.JobDTO dto = new com.freelancerconnect.dto.JobDTO();
-                                dto.setId(job.getId());
-                                dto.setTitle(job.getTitle());
-                                dto.setDescription(job.getDescription());
-                                dto.setBudget(job.getBudget());
-                                dto.setDeadline(job.getDeadline());
-                                dto.setCompletionDate(job.getCompletionDate());
-                                dto.setClientId(job.getClientId());
-                                dto.setClientName(job.getClientName());
-                                dto.setClientEmail(job.getClientEmail());
-                                dto.setFreelancerId(job.getFreelancerId());
-                                dto.setFreelancerName(job.getFreelancerName());
-                                dto.setFreelancerEmail(job.getFreelancerEmail());
-                                dto.setRequiredSkills(job.getRequiredSkills());
-                                dto.setStatus(job.getStatus());
-                                dto.setCategory(job.getCategory());
-                                dto.setExperienceLevel(job.getExperienceLevel());
-                                dto.setCreatedAt(job.getCreatedAt());
-                                dto.setActive(job.isActive());
-                                dto.setProgress(job.getProgress());
-                                dto.setLastUpdateMessage(job.getLastUpdateMessage());
-
-                                // Calculate match percentage (ALWAYS calculated, range 0-100)
-                                double matchPercentage = jobService.calculateMatchPercentage(freelancer, job);
-                                dto.setMatchPercentage(matchPercentage);
-
-                                return dto;
-                            })
-                            .collect(java.util.stream.Collectors.toList());
-
-                    return ResponseEntity.ok(jobDTOs);
+                    // Calculate match percentage (ALWAYS calculated, range 0-100)
+                    double[] matchPercentages = matchScoreStore.getScores(freelancer, jobs);
+                    List<com.freelancerconnect.dto.JobDTO> jobDTOs = new java.util.ArrayList<>(jobs.size());
+                    for (int i = 0; i < jobs.size(); i++) {
+                        jobDTOs.add(toJobDTO(jobs.get(i), matchPercentages[i]));
+                    }
+
+                    return jobDTOs;
                 }
             } catch (Exception e) {
                 // If error, log and return jobs without match percentage
@@ -110,62 +202,112 @@ public class JobController {
         }
 
         // Return regular jobs if no freelancerId or error occurred
-        return ResponseEntity.ok(jobs);
+        return jobs;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // Full-text search over title, required skills and description, best match first.
+    // Same filters as /all; pass the X-Next-Cursor of the previous response as cursor to get the next page
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) Double minBudget,
+            @RequestParam(required = false) Double maxBudget,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String skill) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        com.freelancerconnect.repository.JobListingFilter filter = new com.freelancerconnect.repository.JobListingFilter(
+                blankToNull(category), blankToNull(experienceLevel), minBudget, maxBudget, blankToNull(status),
+                blankToNull(skill));
+        try {
+            JobService.JobSearchPage page = jobService.searchJobs(q, filter, limit, cursor);
+            com.freelancerconnect.dto.JobSearchResponse body = new com.freelancerconnect.dto.JobSearchResponse();
+            body.setJobs(page.jobs());
+            body.setTotal(page.total());
+            body.setFacets(page.facets());
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // Get jobs assigned to a specific freelancer
     @GetMapping("/freelancer/{freelancerId}")
-    public List<Job> getFreelancerJobs(@PathVariable Long freelancerId) {
+    public List<com.freelancerconnect.dto.JobSummary> getFreelancerJobs(@PathVariable Long freelancerId) {
         return jobRepository.findByFreelancerId(freelancerId);
     }
 
+    // Several jobs in one call, keyed by id (missing ids left out); with freelancerId each one
+    // comes as a JobDTO with that freelancer's match percentage, like /{id}?freelancerId=
+    @GetMapping("/batch")
+    public ResponseEntity<?> getJobsBatch(@RequestParam List<Long> ids,
+            @RequestParam(required = false) Long freelancerId) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body("At most " + MAX_BATCH_SIZE + " ids per request");
+        }
+        java.util.Map<Long, Job> jobsById = entityCache.findJobs(ids);
+        com.freelancerconnect.entity.Freelancer freelancer = entityCache.findFreelancer(freelancerId).orElse(null);
+        if (freelancer == null) {
+            return ResponseEntity.ok(jobsById);
+        }
+
+        List<Job> jobs = new java.util.ArrayList<>(jobsById.values());
+        double[] matchPercentages = matchScoreStore.getScores(freelancer, jobs);
+        java.util.Map<Long, com.freelancerconnect.dto.JobDTO> dtosById = new java.util.LinkedHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            dtosById.put(jobs.get(i).getId(), toJobDTO(jobs.get(i), matchPercentages[i]));
+        }
+        return ResponseEntity.ok(dtosById);
+    }
+
+    // Polled by the job page: answers 304 from the change counters when If-None-Match is still current
     @GetMapping("/{id}")
     public ResponseEntity<?> getJobById(@PathVariable Long id,
-            @RequestParam(required = false) Long freelancerId) {
-        return jobRepository.findById(id)
+            @RequestParam(required = false) Long freelancerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String eTag = resourceVersions.jobETag(id, freelancerId);
+        if (com.freelancerconnect.service.ResourceVersions.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(org.springframework.http.HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return entityCache.findJob(id)
                 .map(job -> {
                     // If freelancerId is provided, return JobDTO with match percentage
                     if (freelancerId != null) {
                         try {
-                            com.freelancerconnect.entity.Freelancer freelancer = freelancerRepository
-                                    .findById(freelancerId).orElse(null);
+                            com.freelancerconnect.entity.Freelancer freelancer = entityCache
+                                    .findFreelancer(freelancerId).orElse(null);
 
                             if (freelancer != null) {
-                                com.freelancerconnect.dto.JobDTO dto = new com.freelancerconnect.dto.JobDTO();
-                                dto.setId(job.getId());
-                                dto.setTitle(job.getTitle());
-                                dto.setDescription(job.getDescription());
-                                dto.setBudget(job.getBudget());
-                                dto.setDeadline(job.getDeadline());
-                                dto.setCompletionDate(job.getCompletionDate());
-                                dto.setClientId(job.getClientId());
-                                dto.setClientName(job.getClientName());
-                                dto.setClientEmail(job.getClientEmail());
-                                dto.setFreelancerId(job.getFreelancerId());
-                                dto.setFreelancerName(job.getFreelancerName());
-                                dto.setFreelancerEmail(job.getFreelancerEmail());
-                                dto.setRequiredSkills(job.getRequiredSkills());
-                                dto.setStatus(job.getStatus());
-                                dto.setCategory(job.getCategory());
-                                dto.setExperienceLevel(job.getExperienceLevel());
-                                dto.setCreatedAt(job.getCreatedAt());
-                                dto.setActive(job.isActive());
-                                dto.setProgress(job.getProgress());
-                                dto.setLastUpdateMessage(job.getLastUpdateMessage());
-
                                 // Calculate match percentage
-                                double matchPercentage = jobService.calculateMatchPercentage(freelancer, job);
-                                dto.setMatchPercentage(matchPercentage);
+                                com.freelancerconnect.dto.JobDTO dto = toJobDTO(job,
+                                        matchScoreStore.getScore(freelancer, job));
 
-                                return ResponseEntity.ok(dto);
+                                return ResponseEntity.ok().eTag(eTag).body(dto);
                             }
                         } catch (Exception e) {
                             System.err.println("Error calculating match percentage: " + e.getMessage());
+                            // No ETag: the same versions normally come with the match percentage
+                            return ResponseEntity.ok(job);
                         }
                     }
 
-                    // Return regular job if no freelancerId or error
-                    return ResponseEntity.ok(job);
+                    // Return regular job if no freelancerId
+                    return ResponseEntity.ok().eTag(eTag).body(job);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -178,12 +320,8 @@ public class JobController {
                 job.setStatus("COMPLETED");
                 job.setProgress(100);
                 job.setLastUpdateMessage("Project completed successfully!");
-                Job updatedJob = jobRepository.save(job);
-
-                // Notify client
-                notificationService.createNotification(job.getClientId(), "CLIENT",
-                        "Project '" + job.getTitle() + "' has been marked as COMPLETED by the freelancer.",
-                        "COMPLETED");
+                // The client is notified from the outbox
+                Job updatedJob = jobService.saveJob(job, completed -> progressUpdated(completed, true));
 
                 return ResponseEntity.ok(new java.util.HashMap<String, Object>() {
                     {
@@ -226,7 +364,7 @@ public class JobController {
                     if (jobDetails.getExperienceLevel() != null)
                         job.setExperienceLevel(jobDetails.getExperienceLevel());
 
-                    Job updatedJob = jobRepository.save(job);
+                    Job updatedJob = jobService.saveJob(job);
                     return ResponseEntity.ok(updatedJob);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -239,7 +377,7 @@ public class JobController {
                 .map(job -> {
                     job.setStatus("CLOSED");
                     job.setActive(false);
-                    Job closedJob = jobRepository.save(job);
+                    Job closedJob = jobService.saveJob(job);
                     return ResponseEntity.ok(closedJob);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -252,7 +390,7 @@ public class JobController {
                 .map(job -> {
                     job.setDeleted(true);
                     job.setActive(false);
-                    jobRepository.save(job);
+                    jobService.saveJob(job);
                     return ResponseEntity.ok().body("Job deleted successfully");
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -268,15 +406,58 @@ public class JobController {
             if (updates.containsKey("lastUpdateMessage")) {
                 job.setLastUpdateMessage((String) updates.get("lastUpdateMessage"));
             }
-            Job saved = jobRepository.save(job);
-
-            // Notify client of progress update
-            notificationService.createNotification(job.getClientId(), "CLIENT",
-                    "Progress update for '" + job.getTitle() + "' : " + job.getProgress() + "% - "
-                            + job.getLastUpdateMessage(),
-                    "PROGRESS_UPDATE");
+            // The client is notified of the progress update from the outbox
+            Job saved = jobService.saveJob(job, updated -> progressUpdated(updated, false));
 
             return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
+
+    private com.freelancerconnect.service.DomainEvent progressUpdated(Job job, boolean completed) {
+        return new com.freelancerconnect.service.DomainEvent.ProgressUpdated(job.getId(), job.getTitle(),
+                job.getClientId(), job.getProgress(), job.getLastUpdateMessage(), completed);
+    }
+
+    private com.freelancerconnect.dto.JobDTO toJobDTO(Job job, double matchPercentage) {
+        com.freelancerconnect.dto.JobDTO dto = new com.freelancerconnect.dto.JobDTO();
+        dto.setId(job.getId());
+        dto.setTitle(job.getTitle());
+        dto.setDescription(job.getDescription());
+        dto.setBudget(job.getBudget());
+        dto.setDeadline(job.getDeadline());
+        dto.setCompletionDate(job.getCompletionDate());
+        dto.setClientId(job.getClientId());
+        dto.setClientName(job.getClientName());
+        dto.setClientEmail(job.getClientEmail());
+        dto.setFreelancerId(job.getFreelancerId());
+        dto.setFreelancerName(job.getFreelancerName());
+        dto.setFreelancerEmail(job.getFreelancerEmail());
+        dto.setRequiredSkills(job.getRequiredSkills());
+        dto.setStatus(job.getStatus());
+        dto.setCategory(job.getCategory());
+        dto.setExperienceLevel(job.getExperienceLevel());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setActive(job.isActive());
+        dto.setProgress(job.getProgress());
+        dto.setLastUpdateMessage(job.getLastUpdateMessage());
+        dto.setMatchPercentage(matchPercentage);
+        return dto;
+    }
+
+    private com.freelancerconnect.dto.CandidateDTO toCandidateDTO(JobService.Candidate candidate) {
+        com.freelancerconnect.entity.Freelancer freelancer = candidate.freelancer();
+        com.freelancerconnect.dto.CandidateDTO dto = new com.freelancerconnect.dto.CandidateDTO();
+        dto.setFreelancerId(freelancer.getId());
+        dto.setFullName(freelancer.getFullName());
+        dto.setTitle(freelancer.getTitle());
+        dto.setLocation(freelancer.getLocation());
+        dto.setProfileImage(freelancer.getProfileImage());
+        dto.setSkills(freelancer.getSkills());
+        dto.setCategory(freelancer.getCategory());
+        dto.setExperienceLevel(freelancer.getExperienceLevel());
+        dto.setAvgRating(freelancer.getAvgRating());
+        dto.setProfileCompleteness(freelancer.getProfileCompleteness());
+        dto.setMatchPercentage(candidate.matchPercentage());
+        return dto;
+    }
 }
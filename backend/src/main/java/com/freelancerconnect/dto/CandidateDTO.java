@@ -0,0 +1,20 @@
+package com.freelancerconnect.dto;
+
+import lombok.Data;
+
+@Data
+public class CandidateDTO {
+    private Long freelancerId;
+    private String fullName;
+    private String title;
+    private String location;
+    private String profileImage;
+    private String skills;
+    private String category;
+    private String experienceLevel;
+    private Double avgRating;
+    private Integer profileCompleteness;
+
+    // Match percentage against the job
+    private Double matchPercentage;
+}
@@ -0,0 +1,15 @@
+package com.freelancerconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Data;
+
+/**
+ * A client's job card: the job's summary columns plus its application counts.
+ */
+@Data
+public class ClientJobSummary {
+    @JsonUnwrapped
+    private JobSummary job;
+
+    private JobApplicationCounts applicationCounts;
+}
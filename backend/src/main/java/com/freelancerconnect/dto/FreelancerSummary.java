@@ -0,0 +1,45 @@
+package com.freelancerconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card view of a freelancer for list endpoints: a column projection without
+ * the password, bio and skill list, which are only needed on the profile view.
+ */
+public interface FreelancerSummary {
+    Long getId();
+
+    String getFullName();
+
+    String getEmail();
+
+    String getUsername();
+
+    String getTitle();
+
+    String getLocation();
+
+    String getCategory();
+
+    String getExperienceLevel();
+
+    String getProfileImage();
+
+    Double getAvgRating();
+
+    Integer getProfileCompleteness();
+
+    // Flags are named after the entity attributes but serialized like the entity (active, deleted, ...)
+    @JsonProperty("verified")
+    boolean getIsVerified();
+
+    @JsonProperty("active")
+    boolean getIsActive();
+
+    @JsonProperty("deleted")
+    boolean getIsDeleted();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,16 @@
+package com.freelancerconnect.dto;
+
+import lombok.Data;
+
+/**
+ * Applications to a job, in total and per pipeline status.
+ */
+@Data
+public class JobApplicationCounts {
+    private long total;
+    private long applied;
+    private long shortlisted;
+    private long interview;
+    private long accepted;
+    private long rejected;
+}
@@ -0,0 +1,17 @@
+package com.freelancerconnect.dto;
+
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class JobSearchResponse {
+    // Best match first
+    private List<JobSummary> jobs;
+
+    // Jobs matching the query and filters, across all pages
+    private long total;
+
+    // Matching jobs per value of "category" and "experienceLevel"
+    private Map<String, Map<String, Long>> facets;
+}
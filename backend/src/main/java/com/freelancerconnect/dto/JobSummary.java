@@ -0,0 +1,45 @@
+package com.freelancerconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card view of a job for list endpoints: a column projection without the
+ * description, required skills and contact e-mails, which are only needed on
+ * the detail view.
+ */
+public interface JobSummary {
+    Long getId();
+
+    String getTitle();
+
+    Double getBudget();
+
+    String getDeadline();
+
+    Long getClientId();
+
+    String getClientName();
+
+    Long getFreelancerId();
+
+    String getFreelancerName();
+
+    String getStatus();
+
+    String getCategory();
+
+    String getExperienceLevel();
+
+    Integer getProgress();
+
+    LocalDateTime getCreatedAt();
+
+    // Flags are named after the entity attributes but serialized like the entity (active, deleted, ...)
+    @JsonProperty("active")
+    boolean getIsActive();
+
+    @JsonProperty("deleted")
+    boolean getIsDeleted();
+}
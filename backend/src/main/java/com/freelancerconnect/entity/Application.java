@@ -6,7 +6,13 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+        // One application per freelancer and job; also serves the lookups by job
+        @UniqueConstraint(name = "uk_applications_job_freelancer", columnNames = { "job_id", "freelancer_id" })
+}, indexes = {
+        // Lookups by freelancer, and rescoring a freelancer's applications in job id order
+        @Index(name = "idx_applications_freelancer_job", columnList = "freelancer_id, job_id")
+})
 public class Application {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
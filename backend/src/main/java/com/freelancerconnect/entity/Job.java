@@ -6,7 +6,15 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        // Keyset listing of /api/jobs/all, newest first. Budget trails the order columns so
+        // budget ranges are checked on the index entry while it is walked
+        @Index(name = "idx_jobs_feed", columnList = "is_active, is_deleted, created_at, id, budget"),
+        // Category is the one selective filter; a small category would otherwise walk most of
+        // the feed to fill a page. Status and experience level have a handful of values each,
+        // so the feed index fills their pages quickly
+        @Index(name = "idx_jobs_feed_category", columnList = "is_active, is_deleted, category, created_at, id, budget")
+})
 public class Job {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,27 @@
+package com.freelancerconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * Applications to a job, in total and per status. Written behind by
+ * {@link com.freelancerconnect.service.JobApplicationCounters}, which adds
+ * its in-memory counts in batches; not updated through JPA.
+ */
+@Data
+@Entity
+@Table(name = "job_application_stats")
+public class JobApplicationStats {
+    @Id
+    private Long jobId;
+
+    private long total;
+    private long applied;
+    private long shortlisted;
+    private long interview;
+    private long accepted;
+    private long rejected;
+
+    private LocalDateTime updatedAt;
+}
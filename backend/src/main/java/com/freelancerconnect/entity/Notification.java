@@ -6,7 +6,10 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // A user's notifications, and their unread count straight from the index
+        @Index(name = "idx_notifications_user_unread", columnList = "user_id, user_role, is_read")
+})
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,42 @@
+package com.freelancerconnect.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * A domain event written in the same transaction as the change it describes
+ * and handed to its handlers later by the outbox worker.
+ */
+@Data
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // Due events, oldest first, for the worker's claim query
+        @Index(name = "idx_outbox_due", columnList = "processed_at, available_at, id")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Not picked up before this; pushed back while claimed and after a failed attempt
+    private LocalDateTime availableAt = LocalDateTime.now();
+
+    private LocalDateTime processedAt;
+
+    // Set, with availableAt cleared, once the event has failed outbox.max-attempts times
+    private LocalDateTime parkedAt;
+
+    private int attempts;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
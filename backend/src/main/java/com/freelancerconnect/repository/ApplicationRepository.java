@@ -2,7 +2,15 @@ package com.freelancerconnect.repository;
 
 import com.freelancerconnect.entity.Application;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByJobId(Long jobId);
@@ -11,4 +19,36 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     
     // Sort by match percentage (Highest first)
     List<Application> findByJobIdOrderByMatchPercentageDesc(Long jobId);
+
+    // Move an application on only if it is still in the status it was read in ('' for none); 0 when
+    // another request changed it first
+    @Modifying(flushAutomatically = true)
+    @Query("update Application a set a.status = :status where a.id = :id and coalesce(a.status, '') = :previous")
+    int updateStatusIfUnchanged(@Param("id") Long id, @Param("previous") String previous,
+            @Param("status") String status);
+
+    // Reject the other applications of the job that are in the given status; the row count is what left it
+    @Modifying(flushAutomatically = true)
+    @Query("update Application a set a.status = 'REJECTED' where a.jobId = :jobId and a.id <> :acceptedId "
+            + "and a.status = :status")
+    int rejectOtherApplicationsIn(@Param("jobId") Long jobId, @Param("acceptedId") Long acceptedId,
+            @Param("status") String status);
+
+    // Same for the other applications with no status, or one not among the counted ones
+    @Modifying(flushAutomatically = true)
+    @Query("update Application a set a.status = 'REJECTED' where a.jobId = :jobId and a.id <> :acceptedId "
+            + "and (a.status is null or a.status not in :counted)")
+    int rejectOtherApplicationsNotIn(@Param("jobId") Long jobId, @Param("acceptedId") Long acceptedId,
+            @Param("counted") Collection<String> counted);
+
+    // [jobId, status, count] over all applications, to seed and reconcile the per-job counters
+    @Query("select a.jobId, a.status, count(a) from Application a group by a.jobId, a.status")
+    List<Object[]> countByJobIdAndStatus();
+
+    // Every application in id order, streamed for the admin export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select a from Application a order by a.id")
+    Stream<Application> streamAll();
 }
@@ -1,11 +1,50 @@
 package com.freelancerconnect.repository;
 
+import com.freelancerconnect.dto.FreelancerSummary;
 import com.freelancerconnect.entity.Freelancer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FreelancerRepository extends JpaRepository<Freelancer, Long> {
     Optional<Freelancer> findByEmail(String email);
 
     Optional<Freelancer> findByUsername(String username);
+
+    // All freelancers, card columns only
+    List<FreelancerSummary> findSummariesBy();
+
+    // Only the fields the in-memory matching index needs, without loading whole profiles
+    @Query("select f.id as id, f.skills as skills, f.experienceLevel as experienceLevel, f.avgRating as avgRating, "
+            + "f.profileCompleteness as profileCompleteness, f.isActive as active, f.isDeleted as deleted "
+            + "from Freelancer f")
+    List<MatchProfileView> findAllMatchProfiles();
+
+    // Every freelancer in id order, streamed for the admin export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select f from Freelancer f order by f.id")
+    Stream<Freelancer> streamAll();
+
+    interface MatchProfileView {
+        Long getId();
+
+        String getSkills();
+
+        String getExperienceLevel();
+
+        Double getAvgRating();
+
+        Integer getProfileCompleteness();
+
+        boolean isActive();
+
+        boolean isDeleted();
+    }
 }
@@ -0,0 +1,7 @@
+package com.freelancerconnect.repository;
+
+import com.freelancerconnect.entity.JobApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, Long> {
+}
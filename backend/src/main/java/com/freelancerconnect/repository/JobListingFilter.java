@@ -0,0 +1,15 @@
+package com.freelancerconnect.repository;
+
+/**
+ * Optional filters of the job listing; {@code null} fields are ignored.
+ * {@code skill} matches jobs listing it as one of their required skills,
+ * ignoring case and whitespace.
+ */
+public record JobListingFilter(String category, String experienceLevel, Double minBudget, Double maxBudget,
+        String status, String skill) {
+
+    public boolean isEmpty() {
+        return category == null && experienceLevel == null && minBudget == null && maxBudget == null
+                && status == null && skill == null;
+    }
+}
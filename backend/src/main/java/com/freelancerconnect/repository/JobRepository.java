@@ -1,21 +1,87 @@
 package com.freelancerconnect.repository;
 
+import com.freelancerconnect.dto.JobSummary;
 import com.freelancerconnect.entity.Job;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
     // Find all jobs posted by a specific client
     List<Job> findByClientId(Long clientId);
 
-    // Find all jobs assigned to a specific freelancer
-    List<Job> findByFreelancerId(Long freelancerId);
+    // Find all jobs assigned to a specific freelancer (card columns only)
+    List<JobSummary> findByFreelancerId(Long freelancerId);
 
     List<Job> findByClientIdAndStatusIn(Long clientId, List<String> statuses);
 
     // Find only active, non-deleted jobs
     List<Job> findByIsActiveTrueAndIsDeletedFalse();
 
-    // Find active jobs by client
-    List<Job> findByClientIdAndIsActiveTrueAndIsDeletedFalse(Long clientId);
+    // Columns of the active, non-deleted jobs kept by the in-memory job catalog (no description)
+    @Query("select j.id as id, j.budget as budget, j.status as status, j.category as category, "
+            + "j.experienceLevel as experienceLevel, j.requiredSkills as requiredSkills "
+            + "from Job j where j.isActive = true and j.isDeleted = false order by j.id")
+    List<CatalogView> findActiveCatalogRows();
+
+    // Searchable text and filter columns of the active jobs, in id order after the given id
+    @Query("select j.id as id, j.title as title, j.description as description, j.requiredSkills as requiredSkills, "
+            + "j.category as category, j.experienceLevel as experienceLevel, j.budget as budget, j.status as status "
+            + "from Job j where j.isActive = true and j.isDeleted = false and j.id > :afterId order by j.id")
+    List<SearchView> findActiveSearchRows(@Param("afterId") Long afterId, Pageable page);
+
+    // Card columns of the given jobs, in no particular order
+    List<JobSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    // Find active jobs by client (card columns only)
+    List<JobSummary> findByClientIdAndIsActiveTrueAndIsDeletedFalse(Long clientId);
+
+    // All jobs, card columns only
+    List<JobSummary> findSummariesBy();
+
+    // Every job in id order, streamed for the admin export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select j from Job j order by j.id")
+    Stream<Job> streamAll();
+
+    interface SearchView {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getRequiredSkills();
+
+        String getCategory();
+
+        String getExperienceLevel();
+
+        Double getBudget();
+
+        String getStatus();
+    }
+
+    interface CatalogView {
+        Long getId();
+
+        Double getBudget();
+
+        String getStatus();
+
+        String getCategory();
+
+        String getExperienceLevel();
+
+        String getRequiredSkills();
+    }
 }
@@ -0,0 +1,19 @@
+package com.freelancerconnect.repository;
+
+import com.freelancerconnect.entity.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Active, non-deleted jobs matching the filter, newest first (ties by
+     * highest id), starting right after the given (createdAt, id) position.
+     *
+     * @param afterCreatedAt createdAt of the last job already returned, or {@code null} to start from the newest
+     * @param afterId        id of the last job already returned
+     * @param limit          maximum number of jobs, or {@code null} for all of them
+     */
+    List<Job> findActiveJobs(JobListingFilter filter, LocalDateTime afterCreatedAt, Long afterId, Integer limit);
+}
@@ -0,0 +1,96 @@
+package com.freelancerconnect.repository;
+
+import com.freelancerconnect.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seek-based listing query: the position is part of the WHERE clause, so each
+ * page is an index range scan on (created_at, id) of the matching jobs index
+ * rather than an OFFSET over everything before it.
+ */
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> findActiveJobs(JobListingFilter filter, LocalDateTime afterCreatedAt, Long afterId,
+            Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> job = query.from(Job.class);
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.isTrue(job.get("isActive")));
+        where.add(cb.isFalse(job.get("isDeleted")));
+        if (filter.category() != null) {
+            where.add(cb.equal(job.get("category"), filter.category()));
+        }
+        if (filter.experienceLevel() != null) {
+            where.add(cb.equal(job.get("experienceLevel"), filter.experienceLevel()));
+        }
+        if (filter.status() != null) {
+            where.add(cb.equal(job.get("status"), filter.status()));
+        }
+        if (filter.minBudget() != null) {
+            where.add(cb.greaterThanOrEqualTo(job.get("budget"), filter.minBudget()));
+        }
+        if (filter.maxBudget() != null) {
+            where.add(cb.lessThanOrEqualTo(job.get("budget"), filter.maxBudget()));
+        }
+        if (filter.skill() != null) {
+            where.add(cb.like(listedSkills(cb, job.get("requiredSkills")),
+                    "%," + escapeLike(normalizeSkill(filter.skill())) + ",%", '\\'));
+        }
+        if (afterCreatedAt != null) {
+            where.add(cb.or(
+                    cb.lessThan(job.get("createdAt"), afterCreatedAt),
+                    cb.and(cb.equal(job.get("createdAt"), afterCreatedAt), cb.lessThan(job.get("id"), afterId))));
+        }
+
+        query.where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(job.get("createdAt")), cb.desc(job.get("id")));
+        TypedQuery<Job> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * The skill list as ",skill,skill,", lower-cased and without whitespace,
+     * with every separator SkillDictionary splits on turned into a comma, so
+     * that a skill can be matched as a whole entry rather than a substring
+     * ("java" no longer matches "javascript").
+     */
+    private static Expression<String> listedSkills(CriteriaBuilder cb, Expression<String> requiredSkills) {
+        Expression<String> skills = cb.lower(requiredSkills);
+        for (String whitespace : List.of(" ", "\t", "\r")) {
+            skills = cb.function("replace", String.class, skills, cb.literal(whitespace), cb.literal(""));
+        }
+        for (String separator : List.of(";", "|", "\n")) {
+            skills = cb.function("replace", String.class, skills, cb.literal(separator), cb.literal(","));
+        }
+        return cb.concat(cb.concat(",", skills), ",");
+    }
+
+    // Same normalization as listedSkills, for the skill asked for
+    private static String normalizeSkill(String skill) {
+        return skill.toLowerCase().replaceAll("\\s", "");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -2,8 +2,33 @@ package com.freelancerconnect.repository;
 
 import com.freelancerconnect.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserIdAndUserRoleOrderByCreatedAtDesc(Long userId, String userRole);
+
+    // Spelled out so the flag is compared (is_read = false) rather than negated, which keeps it an index lookup
+    @Query("select count(n) from Notification n "
+            + "where n.userId = :userId and n.userRole = :userRole and n.isRead = false")
+    long countByUserIdAndUserRoleAndIsReadFalse(@Param("userId") Long userId, @Param("userRole") String userRole);
+
+    // Only the rows still unread are touched
+    @Modifying
+    @Query("update Notification n set n.isRead = true "
+            + "where n.userId = :userId and n.userRole = :userRole and n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("userRole") String userRole);
+
+    // One notification per freelancer whose application to the job is about to be rejected
+    // (every other one not rejected yet), written in a single statement
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into notifications (user_id, user_role, job_id, message, status, is_read, created_at) "
+            + "select a.freelancer_id, 'FREELANCER', a.job_id, :message, 'REJECTED', false, :createdAt "
+            + "from applications a where a.job_id = :jobId and a.id <> :acceptedId "
+            + "and (a.status is null or a.status <> 'REJECTED')", nativeQuery = true)
+    int notifyRejectedApplicants(@Param("jobId") Long jobId, @Param("acceptedId") Long acceptedId,
+            @Param("message") String message, @Param("createdAt") LocalDateTime createdAt);
 }
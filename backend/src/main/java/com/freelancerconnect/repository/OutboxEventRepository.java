@@ -0,0 +1,48 @@
+package com.freelancerconnect.repository;
+
+import com.freelancerconnect.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Lock timeout -2 is Hibernate's SKIP LOCKED: rows another worker is claiming are passed over, not waited for
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.processedAt is null and e.availableAt <= :now order by e.id")
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, Pageable page);
+
+    // Zero when another worker has already processed the event
+    @Modifying
+    @Query("update OutboxEvent e set e.processedAt = :now, e.attempts = e.attempts + 1 "
+            + "where e.id = :id and e.processedAt is null")
+    int markProcessed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.availableAt = :retryAt, e.lastError = :error "
+            + "where e.id = :id and e.processedAt is null")
+    int markFailed(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt, @Param("error") String error);
+
+    // No longer due: availableAt is cleared, so the claim query passes it over
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.availableAt = null, e.parkedAt = :now, "
+            + "e.lastError = :error where e.id = :id and e.processedAt is null")
+    int markParked(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+
+    long countByProcessedAtIsNullAndParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+}
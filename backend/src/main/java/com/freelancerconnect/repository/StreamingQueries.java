@@ -0,0 +1,17 @@
+package com.freelancerconnect.repository;
+
+/**
+ * Settings of the repository queries that return a {@code Stream} of rows.
+ * Those must run inside a transaction that stays open while the stream is
+ * consumed, and the connection cannot be used for anything else meanwhile.
+ */
+public final class StreamingQueries {
+
+    // Rows fetched per round trip. A plain positive size, so every driver accepts it; MySQL
+    // Connector/J only honours it with useCursorFetch=true on the URL (see application.properties)
+    // and otherwise buffers the whole result first
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQueries() {
+    }
+}
@@ -0,0 +1,220 @@
+package com.freelancerconnect.service;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.freelancerconnect.entity.Application;
+import com.freelancerconnect.entity.Client;
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.ApplicationRepository;
+import com.freelancerconnect.repository.ClientRepository;
+import com.freelancerconnect.repository.FreelancerRepository;
+import com.freelancerconnect.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes whole admin tables (jobs, freelancers, clients, applications) as
+ * NDJSON or CSV while reading them. Rows come from a streaming query and are
+ * detached once written, so memory use does not grow with the table.
+ * <p>
+ * Columns are listed per dataset, in the order and under the names of the
+ * entity's JSON properties (as the admin list endpoints show them). Properties
+ * not listed, passwords among them, are never exported, including ones added
+ * to an entity later.
+ */
+@Service
+public class AdminExportService {
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    private static final List<String> JOB_COLUMNS = List.of(
+            "id", "title", "description", "budget", "deadline", "completionDate",
+            "clientId", "clientName", "clientEmail", "freelancerId", "freelancerName", "freelancerEmail",
+            "requiredSkills", "status", "category", "experienceLevel", "progress", "lastUpdateMessage",
+            "createdAt", "active", "deleted");
+
+    private static final List<String> FREELANCER_COLUMNS = List.of(
+            "id", "fullName", "email", "username", "mobileNo", "skills", "bio", "title", "location",
+            "category", "experienceLevel", "experienceYears", "education", "profileImage", "avgRating",
+            "profileCompleteness", "termsAccepted", "role", "createdAt", "updatedAt", "updatedBy",
+            "active", "deleted", "verified");
+
+    private static final List<String> CLIENT_COLUMNS = List.of(
+            "id", "fullName", "email", "username", "mobileNo", "profileImage", "termsAccepted", "role",
+            "createdAt", "updatedAt", "updatedBy", "active", "deleted", "verified");
+
+    private static final List<String> APPLICATION_COLUMNS = List.of(
+            "id", "jobId", "freelancerId", "matchPercentage", "coverMessage", "status", "appliedAt");
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public boolean hasDataset(String dataset) {
+        return datasetOf(dataset) != null;
+    }
+
+    /**
+     * Write every row of a dataset to the stream. The stream is flushed but
+     * not closed.
+     */
+    public void export(String dataset, Format format, OutputStream out) {
+        Dataset rows = datasetOf(dataset);
+        if (rows == null) {
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+        // The streaming query holds its connection until the last row is read
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<?> stream = rows.query().get()) {
+                write(stream.iterator(), columnsOf(rows), format,
+                        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private record Dataset(Class<?> type, List<String> columns, Supplier<Stream<?>> query) {
+    }
+
+    private Dataset datasetOf(String dataset) {
+        return switch (dataset) {
+            case "jobs" -> new Dataset(Job.class, JOB_COLUMNS, jobRepository::streamAll);
+            case "freelancers" -> new Dataset(Freelancer.class, FREELANCER_COLUMNS, freelancerRepository::streamAll);
+            case "clients" -> new Dataset(Client.class, CLIENT_COLUMNS, clientRepository::streamAll);
+            case "applications" -> new Dataset(Application.class, APPLICATION_COLUMNS,
+                    applicationRepository::streamAll);
+            default -> null;
+        };
+    }
+
+    private void write(Iterator<?> rows, List<BeanPropertyDefinition> columns, Format format, Writer writer)
+            throws IOException {
+        if (format == Format.CSV) {
+            writeCsvLine(writer, columns.stream().map(BeanPropertyDefinition::getName).toList());
+        }
+        while (rows.hasNext()) {
+            Object row = rows.next();
+            if (format == Format.CSV) {
+                List<Object> values = new ArrayList<>(columns.size());
+                for (BeanPropertyDefinition column : columns) {
+                    values.add(column.getAccessor().getValue(row));
+                }
+                writeCsvLine(writer, values);
+            } else {
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (BeanPropertyDefinition column : columns) {
+                    values.put(column.getName(), column.getAccessor().getValue(row));
+                }
+                writer.write(objectMapper.writeValueAsString(values));
+                writer.write('\n');
+            }
+            entityManager.detach(row);
+        }
+        writer.flush();
+    }
+
+    // The dataset's listed columns, looked up among the entity's JSON properties; a listed
+    // name that is not one fails the export before any row is read
+    private List<BeanPropertyDefinition> columnsOf(Dataset rows) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(rows.type()));
+        Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.couldSerialize()) {
+                properties.put(property.getName(), property);
+            }
+        }
+        List<BeanPropertyDefinition> columns = new ArrayList<>(rows.columns().size());
+        for (String name : rows.columns()) {
+            BeanPropertyDefinition property = properties.get(name);
+            if (property == null) {
+                throw new IllegalStateException("No property " + name + " on " + rows.type().getSimpleName());
+            }
+            columns.add(property);
+        }
+        return columns;
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(csvField(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields holding a separator, quote or line break; double the quotes
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
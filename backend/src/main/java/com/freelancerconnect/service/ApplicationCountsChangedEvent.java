@@ -0,0 +1,10 @@
+package com.freelancerconnect.service;
+
+/**
+ * Published by {@link ApplicationService} when applications to a job are
+ * added or change status: {@code count} applications moved from
+ * {@code fromStatus} ({@code null} for new ones) to {@code toStatus}.
+ */
+public record ApplicationCountsChangedEvent(Long jobId, Long clientId, String fromStatus, String toStatus,
+        long count) {
+}
@@ -0,0 +1,298 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.FreelancerRepository;
+import com.freelancerconnect.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recomputes the match percentage stored on applications once a job's or a
+ * freelancer's scoring inputs change (required skills, experience level,
+ * title and description; skills and experience level), so the applicant
+ * ranking of {@code findByJobIdOrderByMatchPercentageDesc} stays current.
+ * Changes are told from Hibernate's dirty check of each committed update,
+ * i.e. against the state the entity was loaded with, so saves that leave the
+ * scoring inputs alone never queue work, restarts included. Inserts are not
+ * watched: a new job or freelancer has no applications yet.
+ * <p>
+ * Work runs on one background thread, a job or freelancer at a time, in
+ * chunks of {@code rescoring.chunk-size} applications with a pause after each
+ * chunk, so it never competes with request traffic for more than one
+ * connection. Only scores that changed are written, as a JDBC batch per chunk.
+ */
+@Service
+public class ApplicationRescorer {
+
+    private static final String JOB_CHUNK = "select id, freelancer_id, match_percentage from applications "
+            + "where job_id = ? and freelancer_id > ? order by freelancer_id limit ?";
+    private static final String FREELANCER_CHUNK = "select id, job_id, match_percentage from applications "
+            + "where freelancer_id = ? and job_id > ? order by job_id limit ?";
+    private static final String UPDATE_SCORE = "update applications set match_percentage = ? where id = ?";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Applications read and rescored per step
+    @Value("${rescoring.chunk-size:200}")
+    private int chunkSize;
+
+    // Pause after each chunk, leaving the database to request traffic
+    @Value("${rescoring.pause-ms:50}")
+    private long pauseMillis;
+
+    private record Task(boolean job, Long id) {
+    }
+
+    // Properties the match percentage is computed from
+    private static final Set<String> JOB_INPUTS = Set.of("requiredSkills", "experienceLevel", "title", "description");
+    private static final Set<String> FREELANCER_INPUTS = Set.of("skills", "experienceLevel");
+
+    // Tasks waiting to run; a task changed again while waiting is not queued twice
+    private final Set<Task> queued = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService worker;
+
+    private final AtomicLong tasksCompleted = new AtomicLong();
+    private final AtomicLong tasksFailed = new AtomicLong();
+    private final AtomicLong applicationsScanned = new AtomicLong();
+    private final AtomicLong applicationsUpdated = new AtomicLong();
+    private volatile Task running;
+    private volatile long runningScanned;
+    private volatile LocalDateTime lastCompletedAt;
+
+    @PostConstruct
+    void start() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-rescorer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_UPDATE, new ScoringInputsListener());
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    /** Queue length, progress of the running task and totals since startup, for the admin dashboard. */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queued.size());
+        Task current = running;
+        if (current != null) {
+            Map<String, Object> task = new LinkedHashMap<>();
+            task.put(current.job() ? "jobId" : "freelancerId", current.id());
+            task.put("applicationsScanned", runningScanned);
+            stats.put("running", task);
+        } else {
+            stats.put("running", null);
+        }
+        stats.put("tasksCompleted", tasksCompleted.get());
+        stats.put("tasksFailed", tasksFailed.get());
+        stats.put("applicationsScanned", applicationsScanned.get());
+        stats.put("applicationsUpdated", applicationsUpdated.get());
+        stats.put("lastCompletedAt", lastCompletedAt);
+        return stats;
+    }
+
+    // Whether the update changed one of the properties; without a dirty check to go by, compares the states
+    private static boolean inputsChanged(PostUpdateEvent event, Set<String> properties) {
+        String[] names = event.getPersister().getPropertyNames();
+        int[] dirty = event.getDirtyProperties();
+        if (dirty != null) {
+            for (int index : dirty) {
+                if (properties.contains(names[index])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Object[] oldState = event.getOldState();
+        for (int index = 0; index < names.length; index++) {
+            if (properties.contains(names[index])
+                    && (oldState == null || !Objects.equals(oldState[index], event.getState()[index]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void submit(Task task) {
+        if (queued.add(task)) {
+            worker.execute(() -> {
+                // Out of the queue before reading anything, so a change from here on queues it again
+                queued.remove(task);
+                run(task);
+            });
+        }
+    }
+
+    private void run(Task task) {
+        running = task;
+        runningScanned = 0;
+        try {
+            if (task.job()) {
+                rescoreJob(task.id());
+            } else {
+                rescoreFreelancer(task.id());
+            }
+            tasksCompleted.incrementAndGet();
+            lastCompletedAt = LocalDateTime.now();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            tasksFailed.incrementAndGet();
+            System.err.println("Rescoring applications of " + (task.job() ? "job " : "freelancer ") + task.id()
+                    + " failed: " + e.getMessage());
+        } finally {
+            running = null;
+        }
+    }
+
+    // Read fresh rather than from the cache, which may not have evicted the change yet
+    private void rescoreJob(Long jobId) throws InterruptedException {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        long after = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = jdbcTemplate.query(JOB_CHUNK, (rs, i) -> new Object[] { rs.getLong(1), rs.getLong(2),
+                    rs.getObject(3, Double.class) }, jobId, after, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Map<Long, Freelancer> freelancers = entityCache.findFreelancers(
+                    chunk.stream().map(row -> (Long) row[1]).toList());
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] row : chunk) {
+                Freelancer freelancer = freelancers.get((Long) row[1]);
+                if (freelancer != null) {
+                    addIfChanged(updates, (Long) row[0], (Double) row[2],
+                            jobService.calculateMatchPercentage(freelancer, job));
+                }
+            }
+            write(chunk.size(), updates);
+            after = (Long) chunk.get(chunk.size() - 1)[1];
+        } while (chunk.size() == chunkSize);
+    }
+
+    private void rescoreFreelancer(Long freelancerId) throws InterruptedException {
+        Freelancer freelancer = freelancerRepository.findById(freelancerId).orElse(null);
+        if (freelancer == null) {
+            return;
+        }
+        long after = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = jdbcTemplate.query(FREELANCER_CHUNK, (rs, i) -> new Object[] { rs.getLong(1), rs.getLong(2),
+                    rs.getObject(3, Double.class) }, freelancerId, after, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Map<Long, Job> jobs = entityCache.findJobs(chunk.stream().map(row -> (Long) row[1]).toList());
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] row : chunk) {
+                Job job = jobs.get((Long) row[1]);
+                if (job != null) {
+                    addIfChanged(updates, (Long) row[0], (Double) row[2],
+                            jobService.calculateMatchPercentage(freelancer, job));
+                }
+            }
+            write(chunk.size(), updates);
+            after = (Long) chunk.get(chunk.size() - 1)[1];
+        } while (chunk.size() == chunkSize);
+    }
+
+    private static void addIfChanged(List<Object[]> updates, Long applicationId, Double stored, double score) {
+        if (stored == null || Double.compare(stored, score) != 0) {
+            updates.add(new Object[] { score, applicationId });
+        }
+    }
+
+    private void write(int scanned, List<Object[]> updates) throws InterruptedException {
+        if (!updates.isEmpty()) {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SCORE, updates));
+        }
+        runningScanned += scanned;
+        applicationsScanned.addAndGet(scanned);
+        applicationsUpdated.addAndGet(updates.size());
+        if (pauseMillis > 0) {
+            Thread.sleep(pauseMillis);
+        }
+    }
+
+    // Runs once an update has committed, so the worker reads what was written
+    private final class ScoringInputsListener implements PostCommitUpdateEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof Job && inputsChanged(event, JOB_INPUTS)) {
+                submit(new Task(true, (Long) event.getId()));
+            } else if (event.getEntity() instanceof Freelancer && inputsChanged(event, FREELANCER_INPUTS)) {
+                submit(new Task(false, (Long) event.getId()));
+            }
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> type = persister.getMappedClass();
+            return type == Job.class || type == Freelancer.class;
+        }
+    }
+}
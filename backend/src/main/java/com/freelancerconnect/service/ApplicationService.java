@@ -6,13 +6,17 @@ import com.freelancerconnect.entity.Application;
 import com.freelancerconnect.entity.Freelancer;
 import com.freelancerconnect.entity.Job;
 import com.freelancerconnect.repository.ApplicationRepository;
-import com.freelancerconnect.repository.FreelancerRepository;
 import com.freelancerconnect.repository.JobRepository;
+import com.freelancerconnect.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,27 +30,37 @@ public class ApplicationService {
     private JobRepository jobRepository;
 
     @Autowired
-    private FreelancerRepository freelancerRepository;
+    private NotificationRepository notificationRepository;
 
     @Autowired
-    private NotificationService notificationService;
+    private JobService jobService;
 
     @Autowired
-    private JobService jobService;
+    private MatchScoreStore matchScoreStore;
 
-    public void applyForJob(ApplicationRequest request) {
-        if (applicationRepository.existsByJobIdAndFreelancerId(request.getJobId(), request.getFreelancerId())) {
-            throw new RuntimeException("You have already applied for this job.");
-        }
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-        Job job = jobRepository.findById(request.getJobId())
+    /**
+     * Record an application. Duplicates are caught by the unique (job, freelancer)
+     * index rather than checked for first, and the notifications go through the
+     * outbox, so the request costs a single insert plus its outbox row.
+     */
+    public void applyForJob(ApplicationRequest request) {
+        Job job = entityCache.findJob(request.getJobId())
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
-        Freelancer freelancer = freelancerRepository.findById(request.getFreelancerId())
+        Freelancer freelancer = entityCache.findFreelancer(request.getFreelancerId())
                 .orElseThrow(() -> new RuntimeException("Freelancer not found"));
 
-        // Use comprehensive match calculation from JobService
-        double matchPercentage = jobService.calculateMatchPercentage(freelancer, job);
+        // Use comprehensive match calculation from JobService (served from the score store when fresh)
+        double matchPercentage = matchScoreStore.getScore(freelancer, job);
 
         Application application = new Application();
         application.setJobId(request.getJobId());
@@ -55,22 +69,26 @@ public class ApplicationService {
         application.setCoverMessage(request.getCoverMessage());
         application.setStatus("APPLIED");
 
-        applicationRepository.save(application);
-
-        // Notify Client
-        String message = "Freelancer " + freelancer.getFullName() + " applied for your job: " + job.getTitle();
-        notificationService.createNotification(job.getClientId(), "CLIENT", message, "APPLIED");
+        try {
+            applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("You have already applied for this job.");
+        }
+        eventPublisher.publishEvent(
+                new ApplicationCountsChangedEvent(job.getId(), job.getClientId(), null, "APPLIED", 1));
 
-        // Notify Freelancer (New)
-        String freelancerMsg = "You successfully applied for: " + job.getTitle();
-        notificationService.createNotification(freelancer.getId(), "FREELANCER", freelancerMsg, "APPLIED");
+        outboxService.record(new DomainEvent.ApplicationSubmitted(application.getId(), job.getId(), job.getTitle(),
+                job.getClientId(), freelancer.getId(), freelancer.getFullName()));
     }
 
     public List<ApplicationDTO> getApplicationsForJob(Long jobId) {
         List<Application> applications = applicationRepository.findByJobIdOrderByMatchPercentageDesc(jobId);
+        // Every applicant in one lookup rather than one query per application
+        Map<Long, Freelancer> freelancersById = entityCache.findFreelancers(
+                applications.stream().map(Application::getFreelancerId).collect(Collectors.toList()));
 
         return applications.stream().map(app -> {
-            Freelancer freelancer = freelancerRepository.findById(app.getFreelancerId()).orElse(null);
+            Freelancer freelancer = freelancersById.get(app.getFreelancerId());
             ApplicationDTO dto = new ApplicationDTO();
             dto.setId(app.getId());
             dto.setJobId(app.getJobId());
@@ -96,8 +114,10 @@ public class ApplicationService {
 
     public List<ApplicationDTO> getApplicationsByFreelancer(Long freelancerId) {
         List<Application> applications = applicationRepository.findByFreelancerId(freelancerId);
+        Map<Long, Job> jobsById = entityCache.findJobs(
+                applications.stream().map(Application::getJobId).collect(Collectors.toList()));
         return applications.stream().map(app -> {
-            Job job = jobRepository.findById(app.getJobId()).orElse(null);
+            Job job = jobsById.get(app.getJobId());
             ApplicationDTO dto = new ApplicationDTO();
             dto.setId(app.getId());
             dto.setJobId(app.getJobId());
@@ -125,47 +145,54 @@ public class ApplicationService {
         Job job = jobRepository.findById(application.getJobId())
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
-        application.setStatus(status);
-        applicationRepository.save(application);
-
-        String message = "";
-        switch (status) {
-            case "SHORTLISTED":
-                message = "Your application for '" + job.getTitle() + "' has been shortlisted.";
-                break;
-            case "INTERVIEW":
-                message = "You are invited for an interview for '" + job.getTitle() + "'.";
-                break;
-            case "ACCEPTED":
-                Freelancer freelancer = freelancerRepository.findById(application.getFreelancerId())
-                        .orElseThrow(() -> new RuntimeException("Freelancer not found"));
-                message = "Congratulations! You have been hired for '" + job.getTitle() + "'.";
-                job.setStatus("IN_PROGRESS");
-                job.setFreelancerId(application.getFreelancerId());
-                job.setFreelancerName(freelancer.getFullName());
-                job.setFreelancerEmail(freelancer.getEmail());
-                jobRepository.save(job);
-                // Reject others
-                rejectOtherApplications(job.getId(), applicationId);
-                break;
-            case "REJECTED":
-                message = "Your application for '" + job.getTitle() + "' was rejected.";
-                break;
+        // Conditional, so two requests moving the same application cannot both count it as leaving
+        // its status; status-less rows are only in the total
+        String previousStatus = application.getStatus() != null ? application.getStatus() : "";
+        if (applicationRepository.updateStatusIfUnchanged(applicationId, previousStatus, status) == 0) {
+            throw new RuntimeException("Application status was changed meanwhile, please reload and try again");
+        }
+        if (!status.equals(previousStatus)) {
+            eventPublisher.publishEvent(new ApplicationCountsChangedEvent(job.getId(), job.getClientId(),
+                    previousStatus, status, 1));
         }
 
-        if (!message.isEmpty()) {
-            notificationService.createNotification(application.getFreelancerId(), "FREELANCER", message, status);
+        if ("ACCEPTED".equals(status)) {
+            Freelancer freelancer = entityCache.findFreelancer(application.getFreelancerId())
+                    .orElseThrow(() -> new RuntimeException("Freelancer not found"));
+            job.setStatus("IN_PROGRESS");
+            job.setFreelancerId(application.getFreelancerId());
+            job.setFreelancerName(freelancer.getFullName());
+            job.setFreelancerEmail(freelancer.getEmail());
+            jobService.saveJob(job);
+            // Reject others
+            rejectOtherApplications(job, applicationId);
         }
+
+        // The freelancer is notified from the outbox once this commits
+        outboxService.record(new DomainEvent.ApplicationStatusChanged(application.getId(), job.getId(),
+                job.getTitle(), application.getFreelancerId(), status));
     }
 
-    private void rejectOtherApplications(Long jobId, Long acceptedAppId) {
-        List<Application> otherApps = applicationRepository.findByJobIdOrderByMatchPercentageDesc(jobId);
-        for (Application otherApp : otherApps) {
-            if (!otherApp.getId().equals(acceptedAppId)) {
-                otherApp.setStatus("REJECTED");
-                applicationRepository.save(otherApp);
+    // One statement to notify the applicants still in the running, then one update per counted status
+    // (and one for the rest), however many applicants there are. Each update's row count is exactly what
+    // left that status, even when other requests change these applications meanwhile
+    private void rejectOtherApplications(Job job, Long acceptedAppId) {
+        String message = "Your application for '" + job.getTitle() + "' was rejected.";
+        notificationRepository.notifyRejectedApplicants(job.getId(), acceptedAppId, message, LocalDateTime.now());
+        List<String> counted = JobApplicationCounters.statuses();
+        for (String previousStatus : counted) {
+            if (!"REJECTED".equals(previousStatus)) {
+                publishRejected(job, previousStatus,
+                        applicationRepository.rejectOtherApplicationsIn(job.getId(), acceptedAppId, previousStatus));
             }
         }
+        publishRejected(job, "", applicationRepository.rejectOtherApplicationsNotIn(job.getId(), acceptedAppId,
+                counted));
+    }
+
+    private void publishRejected(Job job, String previousStatus, int count) {
+        eventPublisher.publishEvent(new ApplicationCountsChangedEvent(job.getId(), job.getClientId(),
+                previousStatus, "REJECTED", count));
     }
 
     public void acceptApplication(Long applicationId) {
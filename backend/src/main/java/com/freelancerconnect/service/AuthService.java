@@ -27,6 +27,9 @@ public class AuthService {
     @Autowired
     private OtpRepository otpRepository;
 
+    @Autowired
+    private FreelancerService freelancerService;
+
     @Autowired
     private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
@@ -111,7 +114,7 @@ public class AuthService {
             freelancer.setMobileNo(mobileNo);
             freelancer.setVerified(true);
             freelancer.setTermsAccepted(termsAccepted);
-            freelancerRepository.save(freelancer);
+            freelancerService.saveFreelancer(freelancer);
         }
         return "Registration successful!";
     }
@@ -144,7 +147,7 @@ public class AuthService {
             freelancer.setMobileNo(otpData.getMobileNo());
             freelancer.setVerified(true);
             freelancer.setTermsAccepted(otpData.isTermsAccepted());
-            freelancerRepository.save(freelancer);
+            freelancerService.saveFreelancer(freelancer);
         } else if ("ADMIN".equalsIgnoreCase(otpData.getRole())) {
             com.freelancerconnect.entity.Admin admin = new com.freelancerconnect.entity.Admin();
             admin.setFullName(otpData.getFullName());
@@ -244,7 +247,7 @@ public class AuthService {
     private void upgradeFreelancerPassword(Freelancer freelancer, String rawPassword) {
         if (!freelancer.getPassword().startsWith("$2a$")) {
             freelancer.setPassword(passwordEncoder.encode(rawPassword));
-            freelancerRepository.save(freelancer);
+            freelancerService.saveFreelancer(freelancer);
         }
     }
 }
@@ -0,0 +1,27 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.ConnectionRequest;
+import com.freelancerconnect.repository.ConnectionRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ConnectionRequestService {
+
+    @Autowired
+    private ConnectionRequestRepository repository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    /** Save a new pending request; the freelancer is notified from the outbox. */
+    @Transactional
+    public ConnectionRequest sendRequest(ConnectionRequest request) {
+        request.setStatus("PENDING");
+        ConnectionRequest saved = repository.save(request);
+        outboxService.record(new DomainEvent.ConnectionRequested(saved.getId(), saved.getClientId(),
+                saved.getClientName(), saved.getFreelancerId()));
+        return saved;
+    }
+}
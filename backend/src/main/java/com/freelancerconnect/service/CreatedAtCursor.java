@@ -0,0 +1,34 @@
+package com.freelancerconnect.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a list ordered by creation time (newest first) and then id
+ * (highest first). Handed to clients as an opaque {@code createdAt:id}
+ * string so the next page can resume right after the last item they received.
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, long id) {
+
+    public String encode() {
+        return createdAt + ":" + id;
+    }
+
+    /**
+     * Parse a cursor produced by {@link #encode()}; {@code null} or blank
+     * means "start from the newest".
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf(':');
+        try {
+            return new CreatedAtCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.freelancerconnect.service;
+
+/**
+ * Events recorded in the outbox by {@link OutboxService#record} and delivered
+ * to {@link NotificationService#handle} by the {@link OutboxWorker}. Each one
+ * carries everything its handlers need, so handling does not depend on rows
+ * that may have changed since. Stored as JSON under the record's simple
+ * name: renaming a record or a component orphans events still queued.
+ */
+public sealed interface DomainEvent {
+
+    record ApplicationSubmitted(Long applicationId, Long jobId, String jobTitle, Long clientId, Long freelancerId,
+            String freelancerName) implements DomainEvent {
+    }
+
+    record ApplicationStatusChanged(Long applicationId, Long jobId, String jobTitle, Long freelancerId,
+            String status) implements DomainEvent {
+    }
+
+    record ProgressUpdated(Long jobId, String jobTitle, Long clientId, Integer progress, String message,
+            boolean completed) implements DomainEvent {
+    }
+
+    record ConnectionRequested(Long requestId, Long clientId, String clientName, Long freelancerId)
+            implements DomainEvent {
+    }
+
+    static String typeOf(DomainEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    /** The record class stored under {@code type}, or {@code null} if there is none. */
+    static Class<? extends DomainEvent> classOf(String type) {
+        for (Class<?> permitted : DomainEvent.class.getPermittedSubclasses()) {
+            if (permitted.getSimpleName().equals(type)) {
+                return permitted.asSubclass(DomainEvent.class);
+            }
+        }
+        return null;
+    }
+}
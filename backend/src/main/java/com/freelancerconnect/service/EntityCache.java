@@ -0,0 +1,169 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.FreelancerRepository;
+import com.freelancerconnect.repository.JobRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache of jobs and freelancers by id, for read paths
+ * that would otherwise load the same rows on every request.
+ * <p>
+ * Entries are detached copies shared between requests: callers must not
+ * modify them. Anything that is going to be changed and saved is loaded from
+ * its repository instead; writes evict through the change events.
+ */
+@Service
+public class EntityCache {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    // Entries kept per entity type
+    @Value("${entity-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // Upper bound on how stale an entry can get if a write bypasses eviction
+    @Value("${entity-cache.expire-after-write-seconds:300}")
+    private long expireAfterWriteSeconds;
+
+    private LoadingCache<Long, Job> jobs;
+    private LoadingCache<Long, Freelancer> freelancers;
+
+    @PostConstruct
+    void init() {
+        jobs = build(jobRepository::findAllById, Job::getId, Job::new);
+        freelancers = build(freelancerRepository::findAllById, Freelancer::getId, Freelancer::new);
+    }
+
+    public Optional<Job> findJob(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * The jobs with the given ids that exist, keyed by id in the order asked
+     * for. Jobs not cached yet are loaded with one query.
+     */
+    public Map<Long, Job> findJobs(Collection<Long> ids) {
+        return findAll(jobs, ids);
+    }
+
+    public Optional<Freelancer> findFreelancer(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(freelancers.get(id));
+    }
+
+    /** Like {@link #findJobs}, for freelancers. */
+    public Map<Long, Freelancer> findFreelancers(Collection<Long> ids) {
+        return findAll(freelancers, ids);
+    }
+
+    // Evict once the write's transaction has finished either way, so a copy of
+    // rolled-back state loaded inside it does not outlive it. Runs ahead of the
+    // other listeners so that none of them can observe the stale entry.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.job() != null && event.job().getId() != null) {
+            jobs.invalidate(event.job().getId());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        if (event.freelancer() != null && event.freelancer().getId() != null) {
+            freelancers.invalidate(event.freelancer().getId());
+        }
+    }
+
+    /** Size and hit/miss counters of each cache, for the admin dashboard. */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("jobs", statsOf(jobs));
+        stats.put("freelancers", statsOf(freelancers));
+        return stats;
+    }
+
+    private <V> LoadingCache<Long, V> build(Function<Iterable<Long>, List<V>> findAllById, Function<V, Long> idOf,
+            Supplier<V> factory) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build(new CacheLoader<Long, V>() {
+                    @Override
+                    public V load(Long id) {
+                        return loadAll(Set.of(id)).get(id);
+                    }
+
+                    // Ids that do not exist are left out, and so not cached
+                    @Override
+                    public Map<Long, V> loadAll(Set<? extends Long> ids) {
+                        Map<Long, V> loaded = new HashMap<>();
+                        for (V entity : findAllById.apply(List.copyOf(ids))) {
+                            loaded.put(idOf.apply(entity), copyOf(entity, factory));
+                        }
+                        return loaded;
+                    }
+                });
+    }
+
+    private static <V> Map<Long, V> findAll(LoadingCache<Long, V> cache, Collection<Long> ids) {
+        Map<Long, V> found = cache.getAll(ids.stream().filter(Objects::nonNull).distinct().toList());
+        Map<Long, V> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            V value = id != null ? found.get(id) : null;
+            if (value != null) {
+                ordered.put(id, value);
+            }
+        }
+        return ordered;
+    }
+
+    // The repository hands back the instance managed by the caller's persistence
+    // context; caching that one would let the caller's later edits leak into the cache
+    private static <T> T copyOf(T entity, Supplier<T> factory) {
+        T copy = factory.get();
+        BeanUtils.copyProperties(entity, copy);
+        return copy;
+    }
+
+    private static Map<String, Object> statsOf(LoadingCache<Long, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("size", cache.estimatedSize());
+        values.put("hits", stats.hitCount());
+        values.put("misses", stats.missCount());
+        values.put("hitRate", stats.hitRate());
+        values.put("evictions", stats.evictionCount());
+        return values;
+    }
+}
@@ -0,0 +1,10 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+
+/**
+ * Published by {@link FreelancerService#saveFreelancer(Freelancer)} after a
+ * freelancer profile is written.
+ */
+public record FreelancerChangedEvent(Freelancer freelancer) {
+}
@@ -0,0 +1,28 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.repository.FreelancerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FreelancerService {
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Persist a freelancer profile and let the match data derived from it
+     * pick up the change. Profile writes should go through here instead of
+     * {@code freelancerRepository.save}.
+     */
+    public Freelancer saveFreelancer(Freelancer freelancer) {
+        Freelancer savedFreelancer = freelancerRepository.save(freelancer);
+        eventPublisher.publishEvent(new FreelancerChangedEvent(savedFreelancer));
+        return savedFreelancer;
+    }
+}
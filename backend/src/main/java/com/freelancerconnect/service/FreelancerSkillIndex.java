@@ -0,0 +1,304 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.repository.FreelancerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from skill id to the freelancers listing that
+ * skill. Answers "how many freelancers cover at least N% of these skills"
+ * by walking only the postings of the requested skills, instead of loading
+ * and scoring every freelancer profile. Also keeps what candidate ranking
+ * needs per freelancer (experience level, rating, profile completeness).
+ */
+@Service
+public class FreelancerSkillIndex {
+
+    // Thresholds reported by talentPool, in ascending order
+    private static final int[] POOL_THRESHOLDS = { 30, 50, 70, 90 };
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Freelancers get a dense slot so postings can be plain int arrays
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private IndexedFreelancer[] freelancersBySlot = new IndexedFreelancer[1024];
+    private final Map<Integer, Postings> freelancersBySkill = new HashMap<>();
+    // Keyed by the upper-cased level, as the match calculation compares them
+    private final Map<String, Postings> freelancersByExperience = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            Arrays.fill(freelancersBySlot, null);
+            freelancersBySkill.clear();
+            freelancersByExperience.clear();
+            freelancerRepository.findAllMatchProfiles().forEach(f -> put(new IndexedFreelancer(f.getId(),
+                    skillDictionary.vectorOf(f.getSkills()), f.getExperienceLevel(), ratingOf(f.getAvgRating()),
+                    completenessOf(f.getProfileCompleteness()), f.isActive() && !f.isDeleted())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        update(event.freelancer());
+    }
+
+    public void update(Freelancer freelancer) {
+        if (freelancer == null || freelancer.getId() == null) {
+            return;
+        }
+        IndexedFreelancer indexed = new IndexedFreelancer(freelancer.getId(),
+                skillDictionary.vectorOf(freelancer.getSkills()), freelancer.getExperienceLevel(),
+                ratingOf(freelancer.getAvgRating()), completenessOf(freelancer.getProfileCompleteness()),
+                freelancer.isActive() && !freelancer.isDeleted());
+        lock.writeLock().lock();
+        try {
+            put(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of freelancers whose skills cover at least {@code minPercent} of
+     * the required skills, using the same percentage as the match calculation.
+     */
+    public long countMatching(String requiredSkills, double minPercent) {
+        SkillVector required = skillDictionary.lookup(requiredSkills);
+        int listed = SkillDictionary.tokenize(requiredSkills).size();
+        long count = 0;
+        lock.readLock().lock();
+        try {
+            int[] matches = countMatches(required);
+            for (int slotMatches : matches) {
+                if (slotMatches > 0 && percentage(slotMatches, listed) >= minPercent) {
+                    count++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return count;
+    }
+
+    /**
+     * How many freelancers cover at least 30/50/70/90% of the required skills.
+     */
+    public TalentPool talentPool(String requiredSkills) {
+        SkillVector required = skillDictionary.lookup(requiredSkills);
+        int listed = SkillDictionary.tokenize(requiredSkills).size();
+        long[] atLeast = new long[POOL_THRESHOLDS.length];
+        lock.readLock().lock();
+        try {
+            int[] matches = countMatches(required);
+            for (int slotMatches : matches) {
+                if (slotMatches == 0) {
+                    continue;
+                }
+                double percentage = percentage(slotMatches, listed);
+                for (int i = 0; i < POOL_THRESHOLDS.length && percentage >= POOL_THRESHOLDS[i]; i++) {
+                    atLeast[i]++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Integer, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < POOL_THRESHOLDS.length; i++) {
+            buckets.put(POOL_THRESHOLDS[i], atLeast[i]);
+        }
+        return new TalentPool(atLeast[0], buckets);
+    }
+
+    public record TalentPool(long matching, Map<Integer, Long> atLeast) {
+    }
+
+    /**
+     * Active freelancers listing any of the given skills, with at least the
+     * given rating and profile completeness. Each freelancer is returned once.
+     */
+    public List<IndexedFreelancer> candidates(int[] skillIds, double minRating, int minCompleteness) {
+        List<IndexedFreelancer> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            boolean[] seen = new boolean[slotsById.size()];
+            for (int skillId : skillIds) {
+                collect(freelancersBySkill.get(skillId), seen, minRating, minCompleteness, candidates);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    /**
+     * Active freelancers with the given (upper-cased) experience level and at
+     * least the given rating and profile completeness.
+     */
+    public List<IndexedFreelancer> candidatesWithLevel(String experienceLevel, double minRating,
+            int minCompleteness) {
+        List<IndexedFreelancer> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            collect(freelancersByExperience.get(experienceLevel), new boolean[slotsById.size()], minRating,
+                    minCompleteness, candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    /**
+     * What the index holds for one freelancer; {@code listed} is false for
+     * deactivated or deleted profiles, which are only counted in talent pools.
+     */
+    public record IndexedFreelancer(long id, SkillVector skills, String experienceLevel, double avgRating,
+            int profileCompleteness, boolean listed) {
+    }
+
+    private void collect(Postings postings, boolean[] seen, double minRating, int minCompleteness,
+            List<IndexedFreelancer> candidates) {
+        if (postings == null) {
+            return;
+        }
+        for (int i = 0; i < postings.size; i++) {
+            int slot = postings.slots[i];
+            if (seen[slot]) {
+                continue;
+            }
+            seen[slot] = true;
+            IndexedFreelancer freelancer = freelancersBySlot[slot];
+            if (freelancer.listed() && freelancer.avgRating() >= minRating
+                    && freelancer.profileCompleteness() >= minCompleteness) {
+                candidates.add(freelancer);
+            }
+        }
+    }
+
+    /**
+     * Per slot, how many of the required skills (repeats included) the
+     * freelancer lists. Caller must hold the read lock.
+     */
+    private int[] countMatches(SkillVector required) {
+        int[] matches = new int[slotsById.size()];
+        int[] tokens = required.tokens();
+        for (int skillId : required.distinctIds()) {
+            Postings postings = freelancersBySkill.get(skillId);
+            if (postings == null) {
+                continue;
+            }
+            int weight = 0;
+            for (int token : tokens) {
+                if (token == skillId) {
+                    weight++;
+                }
+            }
+            for (int i = 0; i < postings.size; i++) {
+                matches[postings.slots[i]] += weight;
+            }
+        }
+        return matches;
+    }
+
+    // Same expression as SkillVector.coverageBy so thresholds agree exactly; skills
+    // without a dictionary id match nobody but still count towards the listed ones
+    private static double percentage(int matches, int listed) {
+        return ((double) matches / listed) * 100;
+    }
+
+    private void put(IndexedFreelancer freelancer) {
+        Integer slot = slotsById.get(freelancer.id());
+        if (slot == null) {
+            slot = slotsById.size();
+            slotsById.put(freelancer.id(), slot);
+            if (slot == freelancersBySlot.length) {
+                freelancersBySlot = Arrays.copyOf(freelancersBySlot, slot * 2);
+            }
+        }
+        IndexedFreelancer previous = freelancersBySlot[slot];
+        if (previous != null) {
+            for (int skillId : previous.skills().distinctIds()) {
+                removePosting(freelancersBySkill, skillId, slot);
+            }
+            if (previous.experienceLevel() != null) {
+                removePosting(freelancersByExperience, previous.experienceLevel().toUpperCase(), slot);
+            }
+        }
+        freelancersBySlot[slot] = freelancer;
+        for (int skillId : freelancer.skills().distinctIds()) {
+            freelancersBySkill.computeIfAbsent(skillId, id -> new Postings()).add(slot);
+        }
+        if (freelancer.experienceLevel() != null) {
+            freelancersByExperience.computeIfAbsent(freelancer.experienceLevel().toUpperCase(), level -> new Postings())
+                    .add(slot);
+        }
+    }
+
+    private static <K> void removePosting(Map<K, Postings> index, K key, int slot) {
+        Postings postings = index.get(key);
+        postings.remove(slot);
+        if (postings.size == 0) {
+            index.remove(key);
+        }
+    }
+
+    private static double ratingOf(Double avgRating) {
+        return avgRating != null ? avgRating : 0.0;
+    }
+
+    private static int completenessOf(Integer profileCompleteness) {
+        return profileCompleteness != null ? profileCompleteness : 0;
+    }
+
+    /** Sorted, growable list of freelancer slots. */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+        }
+    }
+}
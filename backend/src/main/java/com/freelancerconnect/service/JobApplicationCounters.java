@@ -0,0 +1,298 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.dto.JobApplicationCounts;
+import com.freelancerconnect.entity.JobApplicationStats;
+import com.freelancerconnect.repository.ApplicationRepository;
+import com.freelancerconnect.repository.JobApplicationStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applications per job, in total and per status, kept in memory so job cards
+ * can show them without touching the applications table.
+ * <p>
+ * Counts are striped adders updated once an application write commits, and
+ * written behind to {@code job_application_stats}: each flush adds what
+ * changed since the previous one, for every changed job, in batched upserts.
+ * They are loaded from that table on startup (or counted from the
+ * applications table when it is still empty).
+ * <p>
+ * Right after startup and then every
+ * {@code application-stats.reconcile-interval-ms}, the counts are compared
+ * with a fresh GROUP BY over the applications table and corrected, and the
+ * next flush writes the corrections. This repairs what an unclean stop lost
+ * from the table and any other drift; a change committing while the reconcile
+ * runs can leave its job off by that change until the next one.
+ */
+@Service
+public class JobApplicationCounters {
+
+    // Column order of the counters; index 0 is the total
+    private static final String[] STATUSES = { "APPLIED", "SHORTLISTED", "INTERVIEW", "ACCEPTED", "REJECTED" };
+    private static final int TOTAL = 0;
+    private static final int WIDTH = STATUSES.length + 1;
+
+    private static final String UPSERT = "insert into job_application_stats "
+            + "(job_id, total, applied, shortlisted, interview, accepted, rejected, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?) as new on duplicate key update "
+            + "total = job_application_stats.total + new.total, "
+            + "applied = job_application_stats.applied + new.applied, "
+            + "shortlisted = job_application_stats.shortlisted + new.shortlisted, "
+            + "interview = job_application_stats.interview + new.interview, "
+            + "accepted = job_application_stats.accepted + new.accepted, "
+            + "rejected = job_application_stats.rejected + new.rejected, updated_at = new.updated_at";
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Jobs written per upsert batch
+    @Value("${application-stats.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    /** Statuses counted in their own column, in column order. */
+    static List<String> statuses() {
+        return List.of(STATUSES);
+    }
+
+    private final Map<Long, LongAdder[]> counts = new ConcurrentHashMap<>();
+    // Jobs whose counts changed since they were last flushed
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // Counts as of the last successful flush; only used under the flush lock
+    private final Map<Long, long[]> flushed = new HashMap<>();
+
+    @PostConstruct
+    synchronized void load() {
+        List<JobApplicationStats> rows = statsRepository.findAll();
+        if (!rows.isEmpty()) {
+            for (JobApplicationStats row : rows) {
+                long[] values = { row.getTotal(), row.getApplied(), row.getShortlisted(), row.getInterview(),
+                        row.getAccepted(), row.getRejected() };
+                LongAdder[] adders = countersOf(row.getJobId());
+                for (int i = 0; i < WIDTH; i++) {
+                    adders[i].add(values[i]);
+                }
+                flushed.put(row.getJobId(), values);
+            }
+            return;
+        }
+        // First start with the table: count the applications once, the next flush writes them
+        for (Map.Entry<Long, long[]> entry : countApplications().entrySet()) {
+            LongAdder[] adders = countersOf(entry.getKey());
+            for (int i = 0; i < WIDTH; i++) {
+                adders[i].add(entry.getValue()[i]);
+            }
+            dirty.add(entry.getKey());
+        }
+    }
+
+    // The table may lack what an unclean stop kept from being flushed
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Correct the counts of every job that differs from the applications
+     * table.
+     */
+    @Scheduled(fixedDelayString = "${application-stats.reconcile-interval-ms:21600000}",
+            initialDelayString = "${application-stats.reconcile-interval-ms:21600000}")
+    public void reconcile() {
+        Map<Long, long[]> actual = countApplications();
+        Set<Long> jobIds = new HashSet<>(actual.keySet());
+        jobIds.addAll(counts.keySet());
+        int corrected = 0;
+        for (Long jobId : jobIds) {
+            long[] expected = actual.getOrDefault(jobId, new long[WIDTH]);
+            LongAdder[] adders = countersOf(jobId);
+            long[] current = sums(adders);
+            if (!Arrays.equals(current, expected)) {
+                for (int i = 0; i < WIDTH; i++) {
+                    adders[i].add(expected[i] - current[i]);
+                }
+                dirty.add(jobId);
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            System.err.println("Corrected application counts of " + corrected + " jobs");
+        }
+    }
+
+    // Counts per job from the applications table, in column order
+    private Map<Long, long[]> countApplications() {
+        Map<Long, long[]> result = new HashMap<>();
+        for (Object[] row : applicationRepository.countByJobIdAndStatus()) {
+            long[] values = result.computeIfAbsent((Long) row[0], id -> new long[WIDTH]);
+            long count = (Long) row[2];
+            values[TOTAL] += count;
+            int column = columnOf((String) row[1]);
+            if (column > 0) {
+                values[column] += count;
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationCountsChanged(ApplicationCountsChangedEvent event) {
+        if (event.jobId() == null || event.count() == 0) {
+            return;
+        }
+        LongAdder[] adders = countersOf(event.jobId());
+        if (event.fromStatus() == null) {
+            adders[TOTAL].add(event.count());
+        } else if (columnOf(event.fromStatus()) > 0) {
+            adders[columnOf(event.fromStatus())].add(-event.count());
+        }
+        if (columnOf(event.toStatus()) > 0) {
+            adders[columnOf(event.toStatus())].add(event.count());
+        }
+        dirty.add(event.jobId());
+        // The client's job cards show the counts
+        if (event.clientId() != null) {
+            resourceVersions.clientListingChanged(event.clientId());
+        }
+    }
+
+    /** Current counts of a job; all zero for a job nobody has applied to. */
+    public JobApplicationCounts get(Long jobId) {
+        LongAdder[] adders = jobId != null ? counts.get(jobId) : null;
+        JobApplicationCounts result = new JobApplicationCounts();
+        if (adders != null) {
+            result.setTotal(adders[TOTAL].sum());
+            result.setApplied(adders[1].sum());
+            result.setShortlisted(adders[2].sum());
+            result.setInterview(adders[3].sum());
+            result.setAccepted(adders[4].sum());
+            result.setRejected(adders[5].sum());
+        }
+        return result;
+    }
+
+    /**
+     * Add the changes since the last flush to the table. A batch that fails is
+     * retried with the next flush.
+     */
+    @Scheduled(fixedDelayString = "${application-stats.flush-interval-ms:5000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        // Taken out of the dirty set before reading, so that a change racing with
+        // the read marks its job again
+        List<Long> jobIds = new ArrayList<>(dirty);
+        dirty.removeAll(jobIds);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> batchIds = new ArrayList<>();
+        List<long[]> batchValues = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < jobIds.size(); i++) {
+            Long jobId = jobIds.get(i);
+            long[] current = sums(counts.get(jobId));
+            long[] previous = flushed.getOrDefault(jobId, new long[WIDTH]);
+            if (!Arrays.equals(current, previous)) {
+                Object[] args = new Object[WIDTH + 2];
+                args[0] = jobId;
+                for (int column = 0; column < WIDTH; column++) {
+                    args[column + 1] = current[column] - previous[column];
+                }
+                args[WIDTH + 1] = now;
+                batchIds.add(jobId);
+                batchValues.add(current);
+                batch.add(args);
+            }
+            if (batch.size() == flushBatchSize || (i == jobIds.size() - 1 && !batch.isEmpty())) {
+                if (!write(batch)) {
+                    // Jobs already written come out unchanged next time and are skipped
+                    dirty.addAll(jobIds);
+                    return;
+                }
+                for (int j = 0; j < batchIds.size(); j++) {
+                    flushed.put(batchIds.get(j), batchValues.get(j));
+                }
+                batchIds.clear();
+                batchValues.clear();
+                batch.clear();
+            }
+        }
+    }
+
+    // One transaction per batch, so a batch is either fully added or not at all
+    private boolean write(List<Object[]> batch) {
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT, batch));
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("Flushing application counts failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private LongAdder[] countersOf(Long jobId) {
+        return counts.computeIfAbsent(jobId, id -> {
+            LongAdder[] adders = new LongAdder[WIDTH];
+            for (int i = 0; i < WIDTH; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        });
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] values = new long[WIDTH];
+        if (adders != null) {
+            for (int i = 0; i < WIDTH; i++) {
+                values[i] = adders[i].sum();
+            }
+        }
+        return values;
+    }
+
+    // Column of a status, or -1 for one that is not counted separately
+    private static int columnOf(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,167 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link JobCatalogSnapshot} of the active, non-deleted
+ * jobs. Built from a column projection at startup and replaced copy-on-write
+ * after every job write, so readers never lock and never see a half-applied
+ * change; a write copies only the chunk and the posting lists its row is in.
+ * The facet counts of those jobs are kept in step with it.
+ */
+@Service
+public class JobCatalog {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private final Codes statuses = new Codes();
+    // Categories compare case-insensitively, so they are coded lower-cased
+    private final Codes categories = new Codes();
+    private final Codes experienceLevels = new Codes();
+
+    private volatile JobCatalogSnapshot snapshot = JobCatalogSnapshot.EMPTY;
+    // Row of each job in the snapshot, and rows emptied by removed jobs; only used under the lock
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+
+    private JobFacetCounts facetCounts = new JobFacetCounts();
+    private volatile Map<String, Map<String, Long>> facets = facetCounts.copy();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        snapshot = JobCatalogSnapshot.of(jobRepository.findActiveCatalogRows().stream()
+                .map(job -> row(job.getId(), job.getBudget(), job.getStatus(), job.getCategory(),
+                        job.getExperienceLevel(), job.getRequiredSkills()))
+                .collect(Collectors.toList()));
+        rowsById.clear();
+        freeRows.clear();
+        for (int row = 0; row < snapshot.size(); row++) {
+            rowsById.put(snapshot.id(row), row);
+        }
+
+        // Counted from the rows just loaded rather than with another pass over the table
+        facetCounts = new JobFacetCounts();
+        for (int row = 0; row < snapshot.size(); row++) {
+            count(snapshot, row, 1);
+        }
+        facets = facetCounts.copy();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        update(event.job());
+    }
+
+    /**
+     * Apply a posted, updated, closed or deleted job to the catalog.
+     */
+    public synchronized void update(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        JobCatalogSnapshot current = snapshot;
+        Integer previousRow = rowsById.get(job.getId());
+        if (previousRow != null) {
+            count(current, previousRow, -1);
+        }
+        if (job.isActive() && !job.isDeleted()) {
+            int row = previousRow != null ? previousRow
+                    : !freeRows.isEmpty() ? freeRows.pop() : current.size();
+            snapshot = current.with(row, row(job.getId(), job.getBudget(), job.getStatus(), job.getCategory(),
+                    job.getExperienceLevel(), job.getRequiredSkills()));
+            rowsById.put(job.getId(), row);
+            count(snapshot, row, 1);
+        } else if (previousRow != null) {
+            snapshot = current.without(previousRow);
+            rowsById.remove(job.getId());
+            freeRows.push(previousRow);
+        }
+        facets = facetCounts.copy();
+    }
+
+    public JobCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Number of catalog jobs per {@code category} (lower-cased),
+     * {@code experienceLevel} (upper-cased), {@code status} and {@code budget}
+     * bucket.
+     */
+    public Map<String, Map<String, Long>> facets() {
+        return facets;
+    }
+
+    /** Code of a status in the snapshot, or {@code -1} if no job has it. */
+    public int statusCode(String status) {
+        return statuses.find(status);
+    }
+
+    /** Code of a category (any case) in the snapshot, or {@code -1} if no job has it. */
+    public int categoryCode(String category) {
+        return categories.find(categoryKey(category));
+    }
+
+    /** Code of an experience level in the snapshot, or {@code -1} if no job has it. */
+    public int experienceCode(String experienceLevel) {
+        return experienceLevels.find(experienceLevel);
+    }
+
+    private JobCatalogSnapshot.Row row(Long id, Double budget, String status, String category,
+            String experienceLevel, String requiredSkills) {
+        return new JobCatalogSnapshot.Row(id, budget != null ? budget : Double.NaN, statuses.intern(status),
+                categories.intern(categoryKey(category)), experienceLevels.intern(experienceLevel),
+                skillDictionary.vectorOf(requiredSkills));
+    }
+
+    private void count(JobCatalogSnapshot catalog, int row, long delta) {
+        facetCounts.add(categories.valueOf(catalog.categoryCode(row)),
+                experienceLevels.valueOf(catalog.experienceCode(row)), statuses.valueOf(catalog.statusCode(row)),
+                catalog.budget(row), delta);
+    }
+
+    private static String categoryKey(String category) {
+        return category != null ? category.toLowerCase() : null;
+    }
+
+    /** Append-only string codes; new codes are only handed out under the catalog's lock. */
+    private static final class Codes {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int intern(String value) {
+            return value == null ? -1 : codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int find(String value) {
+            return value == null ? -1 : codes.getOrDefault(value, -1);
+        }
+
+        // Only under the catalog's lock, like intern
+        String valueOf(int code) {
+            return code < 0 ? null : values.get(code);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.freelancerconnect.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable, column-per-field copy of the active jobs. Scans read plain
+ * arrays instead of JPA entities; status, category and experience level are
+ * stored as codes handed out by {@link JobCatalog} ({@code -1} when unset).
+ * Changes produce a new snapshot, so a reader keeps a consistent view for as
+ * long as it holds on to one.
+ * <p>
+ * Rows are slots assigned by {@link JobCatalog} and keep their job for as
+ * long as it stays in the catalog; a slot left by a removed job is empty
+ * until it is reused. Columns are stored in fixed-size chunks, so a change
+ * copies the one chunk holding its row. Next to the columns the snapshot
+ * keeps posting lists of the rows per skill, category and experience level,
+ * so a scan can visit only the rows sharing one of them.
+ */
+public final class JobCatalogSnapshot {
+
+    // Rows per chunk; a change copies this many rows of each column
+    private static final int CHUNK_ROWS = 1024;
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    static final JobCatalogSnapshot EMPTY = of(List.of());
+
+    // Unique per snapshot, so results derived from one can be matched to it without holding it
+    private final long version = VERSIONS.incrementAndGet();
+    private final Chunk[] chunks;
+    private final int size;
+    // Ascending rows per skill id, category code and experience code
+    private final int[][] rowsBySkill;
+    private final int[][] rowsByCategory;
+    private final int[][] rowsByExperience;
+
+    private JobCatalogSnapshot(Chunk[] chunks, int size, int[][] rowsBySkill, int[][] rowsByCategory,
+            int[][] rowsByExperience) {
+        this.chunks = chunks;
+        this.size = size;
+        this.rowsBySkill = rowsBySkill;
+        this.rowsByCategory = rowsByCategory;
+        this.rowsByExperience = rowsByExperience;
+    }
+
+    /**
+     * Snapshot holding the given rows in rows {@code 0..rows.size() - 1}.
+     */
+    static JobCatalogSnapshot of(List<Row> rows) {
+        int size = rows.size();
+        Chunk[] chunks = new Chunk[(size + CHUNK_ROWS - 1) / CHUNK_ROWS];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new Chunk();
+        }
+        PostingsBuilder bySkill = new PostingsBuilder();
+        PostingsBuilder byCategory = new PostingsBuilder();
+        PostingsBuilder byExperience = new PostingsBuilder();
+        for (int row = 0; row < size; row++) {
+            Row data = rows.get(row);
+            chunks[row / CHUNK_ROWS].set(row % CHUNK_ROWS, data);
+            for (int skillId : data.skills().distinctIds()) {
+                bySkill.add(skillId, row);
+            }
+            byCategory.add(data.categoryCode(), row);
+            byExperience.add(data.experienceCode(), row);
+        }
+        return new JobCatalogSnapshot(chunks, size, bySkill.build(), byCategory.build(), byExperience.build());
+    }
+
+    /** Identifies this snapshot; every snapshot gets a new, higher version. */
+    public long version() {
+        return version;
+    }
+
+    /** Number of rows, empty ones included; rows are numbered from 0. */
+    public int size() {
+        return size;
+    }
+
+    /** Whether the row holds a job; the getters of an empty row return defaults. */
+    public boolean holdsJob(int row) {
+        return chunk(row).skills[row % CHUNK_ROWS] != null;
+    }
+
+    public long id(int row) {
+        return chunk(row).ids[row % CHUNK_ROWS];
+    }
+
+    /** Budget of the row, {@code NaN} when unset. */
+    public double budget(int row) {
+        return chunk(row).budgets[row % CHUNK_ROWS];
+    }
+
+    public int statusCode(int row) {
+        return chunk(row).statusCodes[row % CHUNK_ROWS];
+    }
+
+    public int categoryCode(int row) {
+        return chunk(row).categoryCodes[row % CHUNK_ROWS];
+    }
+
+    public int experienceCode(int row) {
+        return chunk(row).experienceCodes[row % CHUNK_ROWS];
+    }
+
+    public SkillVector skills(int row) {
+        return chunk(row).skills[row % CHUNK_ROWS];
+    }
+
+    /** Ascending rows of the jobs requiring the skill. Do not modify. */
+    public int[] rowsWithSkill(int skillId) {
+        return postings(rowsBySkill, skillId);
+    }
+
+    /** Ascending rows of the jobs in the category. Do not modify. */
+    public int[] rowsWithCategory(int categoryCode) {
+        return postings(rowsByCategory, categoryCode);
+    }
+
+    /** Ascending rows of the jobs asking for the experience level. Do not modify. */
+    public int[] rowsWithExperience(int experienceCode) {
+        return postings(rowsByExperience, experienceCode);
+    }
+
+    /**
+     * Copy of this snapshot with the row set to the given job, replacing what
+     * the row held. {@code row} may be {@link #size()} to add a row.
+     */
+    JobCatalogSnapshot with(int row, Row data) {
+        return replace(row, data);
+    }
+
+    /** Copy of this snapshot with the row emptied. */
+    JobCatalogSnapshot without(int row) {
+        return replace(row, null);
+    }
+
+    private JobCatalogSnapshot replace(int row, Row data) {
+        int newSize = Math.max(size, row + 1);
+        Chunk[] newChunks;
+        int chunkIndex = row / CHUNK_ROWS;
+        if (chunkIndex >= chunks.length) {
+            newChunks = Arrays.copyOf(chunks, chunkIndex + 1);
+            newChunks[chunkIndex] = new Chunk();
+        } else {
+            newChunks = chunks.clone();
+            newChunks[chunkIndex] = chunks[chunkIndex].copy();
+        }
+
+        int[] oldSkills = NO_ROWS;
+        int oldCategory = -1;
+        int oldExperience = -1;
+        if (row < size && holdsJob(row)) {
+            oldSkills = skills(row).distinctIds();
+            oldCategory = categoryCode(row);
+            oldExperience = experienceCode(row);
+        }
+        int[] newSkills = data != null ? data.skills().distinctIds() : NO_ROWS;
+        int newCategory = data != null ? data.categoryCode() : -1;
+        int newExperience = data != null ? data.experienceCode() : -1;
+
+        if (data != null) {
+            newChunks[chunkIndex].set(row % CHUNK_ROWS, data);
+        } else {
+            newChunks[chunkIndex].clear(row % CHUNK_ROWS);
+        }
+        return new JobCatalogSnapshot(newChunks, newSize, move(rowsBySkill, oldSkills, newSkills, row),
+                move(rowsByCategory, codes(oldCategory), codes(newCategory), row),
+                move(rowsByExperience, codes(oldExperience), codes(newExperience), row));
+    }
+
+    private Chunk chunk(int row) {
+        return chunks[row / CHUNK_ROWS];
+    }
+
+    private static int[] postings(int[][] rowsByKey, int key) {
+        return key >= 0 && key < rowsByKey.length && rowsByKey[key] != null ? rowsByKey[key] : NO_ROWS;
+    }
+
+    private static int[] codes(int code) {
+        return code >= 0 ? new int[] { code } : NO_ROWS;
+    }
+
+    /**
+     * Copy of the posting lists with the row taken off the lists of the old
+     * keys and put on those of the new keys (both ascending). Only the lists
+     * that change are copied; the others are shared with this snapshot.
+     */
+    private static int[][] move(int[][] rowsByKey, int[] oldKeys, int[] newKeys, int row) {
+        if (Arrays.equals(oldKeys, newKeys)) {
+            return rowsByKey;
+        }
+        int maxKey = Math.max(oldKeys.length > 0 ? oldKeys[oldKeys.length - 1] : -1,
+                newKeys.length > 0 ? newKeys[newKeys.length - 1] : -1);
+        int[][] copy = Arrays.copyOf(rowsByKey, Math.max(rowsByKey.length, maxKey + 1));
+        for (int key : oldKeys) {
+            if (Arrays.binarySearch(newKeys, key) < 0) {
+                copy[key] = removeRow(copy[key], row);
+            }
+        }
+        for (int key : newKeys) {
+            if (Arrays.binarySearch(oldKeys, key) < 0) {
+                copy[key] = insertRow(copy[key], row);
+            }
+        }
+        return copy;
+    }
+
+    private static int[] insertRow(int[] rows, int row) {
+        if (rows == null) {
+            return new int[] { row };
+        }
+        int at = Arrays.binarySearch(rows, row);
+        if (at >= 0) {
+            return rows;
+        }
+        at = -at - 1;
+        int[] copy = new int[rows.length + 1];
+        System.arraycopy(rows, 0, copy, 0, at);
+        copy[at] = row;
+        System.arraycopy(rows, at, copy, at + 1, rows.length - at);
+        return copy;
+    }
+
+    private static int[] removeRow(int[] rows, int row) {
+        int at = rows != null ? Arrays.binarySearch(rows, row) : -1;
+        if (at < 0) {
+            return rows;
+        }
+        if (rows.length == 1) {
+            return null;
+        }
+        int[] copy = new int[rows.length - 1];
+        System.arraycopy(rows, 0, copy, 0, at);
+        System.arraycopy(rows, at + 1, copy, at, copy.length - at);
+        return copy;
+    }
+
+    // One chunk of every column; only ever modified before its snapshot is published
+    private static final class Chunk {
+        final long[] ids = new long[CHUNK_ROWS];
+        final double[] budgets = new double[CHUNK_ROWS];
+        final int[] statusCodes = new int[CHUNK_ROWS];
+        final int[] categoryCodes = new int[CHUNK_ROWS];
+        final int[] experienceCodes = new int[CHUNK_ROWS];
+        final SkillVector[] skills = new SkillVector[CHUNK_ROWS];
+
+        Chunk() {
+            Arrays.fill(budgets, Double.NaN);
+            Arrays.fill(statusCodes, -1);
+            Arrays.fill(categoryCodes, -1);
+            Arrays.fill(experienceCodes, -1);
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            System.arraycopy(ids, 0, copy.ids, 0, CHUNK_ROWS);
+            System.arraycopy(budgets, 0, copy.budgets, 0, CHUNK_ROWS);
+            System.arraycopy(statusCodes, 0, copy.statusCodes, 0, CHUNK_ROWS);
+            System.arraycopy(categoryCodes, 0, copy.categoryCodes, 0, CHUNK_ROWS);
+            System.arraycopy(experienceCodes, 0, copy.experienceCodes, 0, CHUNK_ROWS);
+            System.arraycopy(skills, 0, copy.skills, 0, CHUNK_ROWS);
+            return copy;
+        }
+
+        void set(int at, Row row) {
+            ids[at] = row.id();
+            budgets[at] = row.budget();
+            statusCodes[at] = row.statusCode();
+            categoryCodes[at] = row.categoryCode();
+            experienceCodes[at] = row.experienceCode();
+            skills[at] = row.skills();
+        }
+
+        void clear(int at) {
+            ids[at] = 0;
+            budgets[at] = Double.NaN;
+            statusCodes[at] = -1;
+            categoryCodes[at] = -1;
+            experienceCodes[at] = -1;
+            skills[at] = null;
+        }
+    }
+
+    // Posting lists filled in ascending row order, trimmed to size once built
+    private static final class PostingsBuilder {
+        private int[][] rows = new int[0][];
+        private int[] sizes = new int[0];
+
+        void add(int key, int row) {
+            if (key < 0) {
+                return;
+            }
+            if (key >= rows.length) {
+                int length = Math.max(key + 1, rows.length * 2);
+                rows = Arrays.copyOf(rows, length);
+                sizes = Arrays.copyOf(sizes, length);
+            }
+            if (rows[key] == null) {
+                rows[key] = new int[4];
+            } else if (sizes[key] == rows[key].length) {
+                rows[key] = Arrays.copyOf(rows[key], sizes[key] * 2);
+            }
+            rows[key][sizes[key]++] = row;
+        }
+
+        int[][] build() {
+            for (int key = 0; key < rows.length; key++) {
+                if (rows[key] != null) {
+                    rows[key] = Arrays.copyOf(rows[key], sizes[key]);
+                }
+            }
+            return rows;
+        }
+    }
+
+    record Row(long id, double budget, int statusCode, int categoryCode, int experienceCode, SkillVector skills) {
+    }
+}
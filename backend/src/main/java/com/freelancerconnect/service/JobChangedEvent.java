@@ -0,0 +1,10 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Job;
+
+/**
+ * Published by {@link JobService#saveJob(Job)} after a job is written.
+ * Listeners use it to keep in-memory views of the job catalog current.
+ */
+public record JobChangedEvent(Job job) {
+}
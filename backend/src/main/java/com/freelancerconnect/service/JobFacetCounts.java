@@ -0,0 +1,67 @@
+package com.freelancerconnect.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running counts of the catalog's jobs per category, experience level, status
+ * and budget bucket. Only changed under the {@link JobCatalog} lock; readers
+ * get immutable copies.
+ */
+final class JobFacetCounts {
+
+    // Upper bounds (exclusive) of the budget buckets; the last bucket is open-ended
+    private static final double[] BUDGET_BOUNDS = { 100, 500, 1000, 5000 };
+    private static final String[] BUDGET_BUCKETS = { "<100", "100-500", "500-1000", "1000-5000", ">=5000" };
+
+    private final Map<String, Long> categories = new TreeMap<>();
+    private final Map<String, Long> experienceLevels = new TreeMap<>();
+    private final Map<String, Long> statuses = new TreeMap<>();
+    private final Map<String, Long> budgets = new LinkedHashMap<>();
+
+    JobFacetCounts() {
+        for (String bucket : BUDGET_BUCKETS) {
+            budgets.put(bucket, 0L);
+        }
+    }
+
+    /**
+     * Count a job in ({@code delta} 1) or out ({@code delta} -1). Null values
+     * and an unset ({@code NaN}) budget are not counted.
+     */
+    void add(String category, String experienceLevel, String status, double budget, long delta) {
+        add(categories, category, delta);
+        add(experienceLevels, experienceLevel != null ? experienceLevel.toUpperCase() : null, delta);
+        add(statuses, status, delta);
+        if (!Double.isNaN(budget)) {
+            budgets.merge(bucketOf(budget), delta, Long::sum);
+        }
+    }
+
+    Map<String, Map<String, Long>> copy() {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("category", Collections.unmodifiableMap(new TreeMap<>(categories)));
+        facets.put("experienceLevel", Collections.unmodifiableMap(new TreeMap<>(experienceLevels)));
+        facets.put("status", Collections.unmodifiableMap(new TreeMap<>(statuses)));
+        facets.put("budget", Collections.unmodifiableMap(new LinkedHashMap<>(budgets)));
+        return Collections.unmodifiableMap(facets);
+    }
+
+    private static void add(Map<String, Long> counts, String value, long delta) {
+        if (value != null) {
+            // Values nobody has any more drop out instead of lingering at zero
+            counts.merge(value, delta, (count, d) -> count + d == 0 ? null : count + d);
+        }
+    }
+
+    private static String bucketOf(double budget) {
+        for (int i = 0; i < BUDGET_BOUNDS.length; i++) {
+            if (budget < BUDGET_BOUNDS[i]) {
+                return BUDGET_BUCKETS[i];
+            }
+        }
+        return BUDGET_BUCKETS[BUDGET_BOUNDS.length];
+    }
+}
@@ -0,0 +1,136 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Job;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Which dictionary skills occur in each job's title and description. A job's
+ * text is scanned once, when it is saved (or first scored), with a
+ * {@link KeywordAutomaton} over every known skill; matching a freelancer's
+ * skills against it is then a bitset lookup per skill.
+ */
+@Service
+public class JobKeywordIndex {
+
+    // An entry holds a fingerprint of the job's title and description (to
+    // notice edits) plus a bitset over the dictionary; a job evicted here costs
+    // one rescan of its text the next time it is scored, so the jobs scored
+    // most stay cached
+    private static final int MAX_CACHED_JOBS = 100_000;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private volatile KeywordAutomaton automaton = KeywordAutomaton.build(List.of());
+
+    private final Cache<Long, JobKeywords> keywordsByJob = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_JOBS)
+            .build();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.isDeleted()) {
+            keywordsByJob.invalidate(job.getId());
+        } else {
+            keywordsByJob.put(job.getId(), scan(job, skillDictionary.size()));
+        }
+    }
+
+    /**
+     * How many of the listed skills (repeats included) occur as a substring
+     * of the job's title or description, lower-cased.
+     */
+    public int countKeywordHits(SkillVector skills, Job job) {
+        if (skills.isEmpty()) {
+            return 0;
+        }
+        int[] distinct = skills.distinctIds();
+        JobKeywords keywords = keywordsOf(job, distinct[distinct.length - 1] + 1);
+        int hits = 0;
+        for (int skillId : skills.tokens()) {
+            if (keywords.contains(skillId)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Ids of every known skill occurring in the job's title or description.
+     */
+    public int[] skillsIn(Job job) {
+        long[] found = keywordsOf(job, skillDictionary.size()).found();
+        int[] skillIds = new int[Arrays.stream(found).mapToInt(Long::bitCount).sum()];
+        int next = 0;
+        for (int word = 0; word < found.length; word++) {
+            for (long bits = found[word]; bits != 0; bits &= bits - 1) {
+                skillIds[next++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return skillIds;
+    }
+
+    /**
+     * Cached keywords of a job, rescanned if its text changed since or if
+     * they predate skills the caller needs.
+     */
+    private JobKeywords keywordsOf(Job job, int skillsNeeded) {
+        JobKeywords keywords = job.getId() != null ? keywordsByJob.getIfPresent(job.getId()) : null;
+        if (keywords != null && keywords.skillsCovered() >= skillsNeeded
+                && keywords.textFingerprint() == textFingerprint(job)) {
+            return keywords;
+        }
+        keywords = scan(job, skillsNeeded);
+        if (job.getId() != null) {
+            keywordsByJob.put(job.getId(), keywords);
+        }
+        return keywords;
+    }
+
+    private JobKeywords scan(Job job, int skillsNeeded) {
+        KeywordAutomaton current = automatonCovering(skillsNeeded);
+        // Same text the keyword match has always searched, "null" title included
+        String jobText = (job.getTitle() + " " + (job.getDescription() != null ? job.getDescription() : ""))
+                .toLowerCase();
+        return new JobKeywords(textFingerprint(job), current.patternCount(), current.scan(jobText));
+    }
+
+    // Both halves are String hashes, which are computed once per string and then cached
+    private static long textFingerprint(Job job) {
+        return ((long) Objects.hashCode(job.getTitle()) << 32)
+                | (Objects.hashCode(job.getDescription()) & 0xFFFFFFFFL);
+    }
+
+    private KeywordAutomaton automatonCovering(int skillsNeeded) {
+        KeywordAutomaton current = automaton;
+        if (current.patternCount() >= skillsNeeded) {
+            return current;
+        }
+        synchronized (this) {
+            if (automaton.patternCount() < skillsNeeded) {
+                automaton = KeywordAutomaton.build(skillDictionary.skills());
+            }
+            return automaton;
+        }
+    }
+
+    private record JobKeywords(long textFingerprint, int skillsCovered, long[] found) {
+
+        boolean contains(int skillId) {
+            int word = skillId >> 6;
+            return word < found.length && (found[word] & (1L << skillId)) != 0;
+        }
+    }
+}
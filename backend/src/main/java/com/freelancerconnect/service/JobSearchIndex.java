@@ -0,0 +1,349 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.JobListingFilter;
+import com.freelancerconnect.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Full-text index of the active jobs over title, required skills and
+ * description, ranked with BM25. Lives in a scratch directory for the life of
+ * the process: it is rebuilt from the database at startup and kept current
+ * from {@link JobChangedEvent}, so it never needs to be backed up.
+ */
+@Service
+public class JobSearchIndex {
+
+    // Rows read per query while building the index at startup
+    private static final int BOOTSTRAP_BATCH_SIZE = 5_000;
+
+    // Field weights: a hit in the title says more than one deep in the description
+    private static final float TITLE_BOOST = 3f;
+    private static final float SKILLS_BOOST = 2f;
+
+    // Best score first, then lowest job id, the same order as ScoreCursor
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField("id", SortField.Type.LONG));
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Path indexPath;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    void open() throws IOException {
+        indexPath = Files.createTempDirectory("job-search");
+        writer = new IndexWriter(FSDirectory.open(indexPath),
+                new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        FileSystemUtils.deleteRecursively(indexPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() throws IOException {
+        long afterId = 0;
+        List<JobRepository.SearchView> batch;
+        do {
+            // A batch is read and written under the lock so a newer event cannot be overwritten by it
+            synchronized (this) {
+                batch = jobRepository.findActiveSearchRows(afterId, PageRequest.of(0, BOOTSTRAP_BATCH_SIZE));
+                for (JobRepository.SearchView job : batch) {
+                    writer.updateDocument(idTerm(job.getId()), document(job.getId(), job.getTitle(),
+                            job.getDescription(), job.getRequiredSkills(), job.getCategory(),
+                            job.getExperienceLevel(), job.getBudget(), job.getStatus()));
+                    afterId = job.getId();
+                }
+            }
+        } while (batch.size() == BOOTSTRAP_BATCH_SIZE);
+        searcherManager.maybeRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        update(event.job());
+    }
+
+    /**
+     * Re-index a job after it was posted, updated, closed or deleted.
+     */
+    public synchronized void update(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        try {
+            if (job.isActive() && !job.isDeleted()) {
+                writer.updateDocument(idTerm(job.getId()), document(job.getId(), job.getTitle(),
+                        job.getDescription(), job.getRequiredSkills(), job.getCategory(), job.getExperienceLevel(),
+                        job.getBudget(), job.getStatus()));
+            } else {
+                writer.deleteDocuments(idTerm(job.getId()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One page of job ids matching the query text and filters, best match
+     * first, with the number of matching jobs and their category and
+     * experience level counts.
+     *
+     * @param cursor {@link Result#nextCursor()} of the previous page, or {@code null}
+     */
+    public Result search(String text, JobListingFilter filter, int limit, String cursor) {
+        ScoreCursor after = ScoreCursor.decode(cursor);
+        Query query = query(text, filter);
+        try {
+            return search(query, limit, after);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Result search(Query query, int limit, ScoreCursor after) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopFieldCollector top = TopFieldCollector.create(RANKING, limit + 1,
+                    after != null ? new FieldDoc(Integer.MAX_VALUE, Float.NaN,
+                            new Object[] { (float) after.score(), after.id() }) : null,
+                    limit + 1);
+            FacetCounts facets = new FacetCounts();
+            searcher.search(query, MultiCollector.wrap(top, facets));
+
+            List<Long> ids = new ArrayList<>();
+            ScoreDoc[] hits = top.topDocs().scoreDocs;
+            for (int i = 0; i < Math.min(hits.length, limit); i++) {
+                ids.add((Long) ((FieldDoc) hits[i]).fields[1]);
+            }
+            String nextCursor = null;
+            if (hits.length > limit) {
+                FieldDoc last = (FieldDoc) hits[limit - 1];
+                nextCursor = new ScoreCursor((Float) last.fields[0], (Long) last.fields[1]).encode();
+            }
+            return new Result(ids, facets.total, facets.counts(), nextCursor);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * @param facets counts per field ({@code category}, {@code experienceLevel}) and value
+     */
+    public record Result(List<Long> jobIds, long total, Map<String, Map<String, Long>> facets, String nextCursor) {
+    }
+
+    private Query query(String text, JobListingFilter filter) {
+        BooleanQuery.Builder matches = new BooleanQuery.Builder();
+        for (String term : analyze("text", text)) {
+            matches.add(new BoostQuery(new TermQuery(new Term("title", term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+            matches.add(new BoostQuery(new TermQuery(new Term("requiredSkills", term)), SKILLS_BOOST),
+                    BooleanClause.Occur.SHOULD);
+            matches.add(new TermQuery(new Term("description", term)), BooleanClause.Occur.SHOULD);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(matches.build(), BooleanClause.Occur.MUST);
+        if (filter.category() != null) {
+            query.add(new TermQuery(new Term("category", categoryKey(filter.category()))), BooleanClause.Occur.FILTER);
+        }
+        if (filter.experienceLevel() != null) {
+            query.add(new TermQuery(new Term("experienceLevel", experienceKey(filter.experienceLevel()))),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.status() != null) {
+            query.add(new TermQuery(new Term("status", filter.status())), BooleanClause.Occur.FILTER);
+        }
+        if (filter.minBudget() != null || filter.maxBudget() != null) {
+            query.add(DoublePoint.newRangeQuery("budget",
+                    filter.minBudget() != null ? filter.minBudget() : Double.NEGATIVE_INFINITY,
+                    filter.maxBudget() != null ? filter.maxBudget() : Double.POSITIVE_INFINITY),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.skill() != null) {
+            for (String term : analyze("requiredSkills", filter.skill())) {
+                query.add(new TermQuery(new Term("requiredSkills", term)), BooleanClause.Occur.FILTER);
+            }
+        }
+        return query.build();
+    }
+
+    private Document document(Long id, String title, String description, String requiredSkills, String category,
+            String experienceLevel, Double budget, String status) {
+        Document document = new Document();
+        document.add(new StringField("id", id.toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField("id", id));
+        document.add(new TextField("title", nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField("requiredSkills", nullToEmpty(requiredSkills), Field.Store.NO));
+        document.add(new TextField("description", nullToEmpty(description), Field.Store.NO));
+        if (category != null) {
+            document.add(new StringField("category", categoryKey(category), Field.Store.NO));
+            document.add(new SortedDocValuesField("category", new BytesRef(categoryKey(category))));
+        }
+        if (experienceLevel != null) {
+            document.add(new StringField("experienceLevel", experienceKey(experienceLevel), Field.Store.NO));
+            document.add(new SortedDocValuesField("experienceLevel", new BytesRef(experienceKey(experienceLevel))));
+        }
+        if (status != null) {
+            document.add(new StringField("status", status, Field.Store.NO));
+        }
+        if (budget != null) {
+            document.add(new DoublePoint("budget", budget));
+        }
+        return document;
+    }
+
+    private List<String> analyze(String field, String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term("id", id.toString());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // Categories and levels are matched ignoring case, as elsewhere in matching
+    private static String categoryKey(String category) {
+        return category.toLowerCase();
+    }
+
+    private static String experienceKey(String experienceLevel) {
+        return experienceLevel.toUpperCase();
+    }
+
+    /** Counts every matching job per category and experience level, segment by segment. */
+    private static final class FacetCounts extends SimpleCollector {
+        private final Map<String, Long> categories = new TreeMap<>();
+        private final Map<String, Long> experienceLevels = new TreeMap<>();
+        private long total;
+
+        private SortedDocValues categoryValues;
+        private SortedDocValues experienceValues;
+        private int[] categoryCounts = new int[0];
+        private int[] experienceCounts = new int[0];
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            flush();
+            categoryValues = DocValues.getSorted(context.reader(), "category");
+            experienceValues = DocValues.getSorted(context.reader(), "experienceLevel");
+            categoryCounts = new int[categoryValues.getValueCount()];
+            experienceCounts = new int[experienceValues.getValueCount()];
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            total++;
+            if (categoryValues.advanceExact(doc)) {
+                categoryCounts[categoryValues.ordValue()]++;
+            }
+            if (experienceValues.advanceExact(doc)) {
+                experienceCounts[experienceValues.ordValue()]++;
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        Map<String, Map<String, Long>> counts() throws IOException {
+            flush();
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put("category", categories);
+            facets.put("experienceLevel", experienceLevels);
+            return facets;
+        }
+
+        // Per-segment ordinals only mean something within the segment, so resolve them before moving on
+        private void flush() throws IOException {
+            for (int ord = 0; ord < categoryCounts.length; ord++) {
+                if (categoryCounts[ord] > 0) {
+                    categories.merge(categoryValues.lookupOrd(ord).utf8ToString(), (long) categoryCounts[ord],
+                            Long::sum);
+                }
+            }
+            for (int ord = 0; ord < experienceCounts.length; ord++) {
+                if (experienceCounts[ord] > 0) {
+                    experienceLevels.merge(experienceValues.lookupOrd(ord).utf8ToString(),
+                            (long) experienceCounts[ord], Long::sum);
+                }
+            }
+            categoryCounts = new int[0];
+            experienceCounts = new int[0];
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package com.freelancerconnect.service;
 
+import com.freelancerconnect.dto.JobSummary;
 import com.freelancerconnect.entity.Freelancer;
 import com.freelancerconnect.entity.Job;
 import com.freelancerconnect.repository.FreelancerRepository;
+import com.freelancerconnect.repository.JobListingFilter;
 import com.freelancerconnect.repository.JobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class JobService {
@@ -20,85 +35,283 @@ public class JobService {
     @Autowired
     private FreelancerRepository freelancerRepository;
 
-    public List<Job> getRecommendedJobs(Long freelancerId) {
-        Freelancer freelancer = freelancerRepository.findById(freelancerId)
+    @Autowired
+    private JobCatalog jobCatalog;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private FreelancerSkillIndex freelancerSkillIndex;
+
+    @Autowired
+    private JobKeywordIndex jobKeywordIndex;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    // Ranked entries kept across all freelancers' recommendation rankings; each is a few dozen bytes
+    private static final long MAX_RANKED_ENTRIES = 2_000_000;
+
+    // Each freelancer's latest recommendation ranking, for paging through it; dropped once idle
+    private final Cache<Long, CachedRanking> rankings = Caffeine.newBuilder()
+            .maximumWeight(MAX_RANKED_ENTRIES)
+            .weigher((Long freelancerId, CachedRanking cached) -> cached.ranking().size() + 1)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * Persist a job and let the in-memory job indexes pick up the change.
+     * Job writes should go through here instead of {@code jobRepository.save}.
+     */
+    public Job saveJob(Job job) {
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(savedJob));
+        return savedJob;
+    }
+
+    /**
+     * {@link #saveJob(Job)}, recording the domain event built from the saved
+     * job in the outbox in the same transaction.
+     */
+    @Transactional
+    public Job saveJob(Job job, Function<Job, DomainEvent> event) {
+        Job savedJob = saveJob(job);
+        outboxService.record(event.apply(savedJob));
+        return savedJob;
+    }
+
+    /**
+     * One page of active jobs matching the filter, newest first.
+     *
+     * @param limit  page size, at least 1; callers bound it
+     * @param cursor {@link JobListingPage#nextCursor()} of the previous page, or {@code null}
+     */
+    public JobListingPage listJobs(JobListingFilter filter, int limit, String cursor) {
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        // One extra row tells whether another page follows
+        List<Job> jobs = jobRepository.findActiveJobs(filter, after != null ? after.createdAt() : null,
+                after != null ? after.id() : null, limit + 1);
+        if (jobs.size() <= limit) {
+            return new JobListingPage(jobs, null);
+        }
+        jobs = jobs.subList(0, limit);
+        Job last = jobs.get(limit - 1);
+        return new JobListingPage(jobs, new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    public record JobListingPage(List<Job> jobs, String nextCursor) {
+    }
+
+    /**
+     * One page of active jobs matching a full-text query, best match first.
+     * Only the jobs on the page are loaded, as card columns.
+     *
+     * @param cursor {@link JobSearchPage#nextCursor()} of the previous page, or {@code null}
+     */
+    public JobSearchPage searchJobs(String text, JobListingFilter filter, int limit, String cursor) {
+        JobSearchIndex.Result result = jobSearchIndex.search(text, filter, limit, cursor);
+        Map<Long, JobSummary> jobsById = jobRepository.findSummariesByIdIn(result.jobIds()).stream()
+                .collect(Collectors.toMap(JobSummary::getId, Function.identity()));
+        List<JobSummary> jobs = result.jobIds().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new JobSearchPage(jobs, result.total(), result.facets(), result.nextCursor());
+    }
+
+    public record JobSearchPage(List<JobSummary> jobs, long total, Map<String, Map<String, Long>> facets,
+            String nextCursor) {
+    }
+
+    /**
+     * One page of open jobs recommended for a freelancer, best match first.
+     *
+     * @param limit  page size, or {@code null} for every recommended job
+     * @param cursor {@link RecommendationPage#nextCursor()} of the previous page, or {@code null}
+     */
+    public RecommendationPage getRecommendedJobs(Long freelancerId, Integer limit, String cursor) {
+        Freelancer freelancer = entityCache.findFreelancer(freelancerId)
                 .orElseThrow(() -> new RuntimeException("Freelancer not found"));
 
-        List<Job> allJobs = jobRepository.findAll().stream()
+        // Only the jobs on the requested page are loaded
+        JobCatalogSnapshot catalog = jobCatalog.snapshot();
+        int openCode = jobCatalog.statusCode("OPEN");
+        int experienceCode = jobCatalog.experienceCode(freelancer.getExperienceLevel());
+        int categoryCode = jobCatalog.categoryCode(freelancer.getCategory());
+        SkillVector freelancerSkills = skillDictionary.vectorOf(freelancer.getSkills());
+        if (openCode < 0) {
+            return new RecommendationPage(List.of(), null);
+        }
+        // Later pages of the same snapshot and profile are sliced from the ranking of the first
+        CachedRanking cached = rankings.getIfPresent(freelancerId);
+        if (cached == null || !cached.matches(catalog, freelancer)) {
+            cached = new CachedRanking(catalog.version(), freelancer.getSkills(), freelancer.getExperienceLevel(),
+                    freelancer.getCategory(), rank(catalog, openCode, experienceCode, categoryCode, freelancerSkills));
+            rankings.put(freelancerId, cached);
+        }
+        TopScores.Page page = cached.ranking().page(limit != null ? limit : Integer.MAX_VALUE,
+                ScoreCursor.decode(cursor));
+        List<Long> rankedIds = page.entries().stream().map(TopScores.Scored::id).collect(Collectors.toList());
+        Map<Long, Job> jobsById = jobRepository.findAllById(rankedIds).stream()
                 .filter(job -> "OPEN".equals(job.getStatus()))
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = rankedIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new RecommendationPage(jobs, page.nextCursor());
+    }
 
-        List<JobScore> scoredJobs = allJobs.stream().map(job -> {
+    private static RankedScores rank(JobCatalogSnapshot catalog, int openCode, int experienceCode,
+            int categoryCode, SkillVector freelancerSkills) {
+        // Score the open jobs sharing a skill, the experience level or the category with the
+        // freelancer, the only ones that can score above zero
+        List<TopScores.Scored> scored = new ArrayList<>();
+        BitSet candidates = new BitSet(catalog.size());
+        for (int skillId : freelancerSkills.distinctIds()) {
+            setAll(candidates, catalog.rowsWithSkill(skillId));
+        }
+        setAll(candidates, catalog.rowsWithExperience(experienceCode));
+        setAll(candidates, catalog.rowsWithCategory(categoryCode));
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            if (catalog.statusCode(row) != openCode) {
+                continue;
+            }
             double score = 0;
 
             // Skill Score (Weight 50)
-            double skillMatch = calculateSkillMatch(freelancer.getSkills(), job.getRequiredSkills());
-            score += skillMatch * 0.5;
+            score += catalog.skills(row).coverageBy(freelancerSkills) * 0.5;
 
             // Experience Score (Weight 25)
-            if (freelancer.getExperienceLevel() != null
-                    && freelancer.getExperienceLevel().equals(job.getExperienceLevel())) {
+            if (experienceCode >= 0 && catalog.experienceCode(row) == experienceCode) {
                 score += 25;
-            } else if (freelancer.getExperienceLevel() != null && job.getExperienceLevel() != null) {
-                // Partial match if levels are adjacent? For simplicity, just exact for now.
             }
 
             // Category Score (Weight 25)
-            if (freelancer.getCategory() != null && freelancer.getCategory().equalsIgnoreCase(job.getCategory())) {
+            if (categoryCode >= 0 && catalog.categoryCode(row) == categoryCode) {
                 score += 25;
             }
 
-            return new JobScore(job, score);
-        })
-                .filter(js -> js.score > 0)
-                .sorted(Comparator.comparingDouble((JobScore js) -> js.score).reversed())
-                .collect(Collectors.toList());
+            if (score > 0) {
+                scored.add(new TopScores.Scored(catalog.id(row), score));
+            }
+        }
+        return RankedScores.of(scored);
+    }
 
-        return scoredJobs.stream().map(js -> js.job).collect(Collectors.toList());
+    private static void setAll(BitSet rows, int[] postings) {
+        for (int row : postings) {
+            rows.set(row);
+        }
     }
 
-    public long countMatchingFreelancers(Job job) {
-        return freelancerRepository.findAll().stream()
-                .filter(f -> calculateSkillMatch(f.getSkills(), job.getRequiredSkills()) >= 30) // At least 30% match
-                .count();
+    public record RecommendationPage(List<Job> jobs, String nextCursor) {
     }
 
-    private double calculateSkillMatch(String fSkills, String jSkills) {
-        if (fSkills == null || jSkills == null)
-            return 0;
-        String[] fArray = fSkills.toLowerCase().split("[,;|\\n]+");
-        String[] jArray = jSkills.toLowerCase().split("[,;|\\n]+");
+    // A ranking together with the snapshot and profile fields it was computed from
+    private record CachedRanking(long catalogVersion, String skills, String experienceLevel, String category,
+            RankedScores ranking) {
+
+        boolean matches(JobCatalogSnapshot catalog, Freelancer freelancer) {
+            return catalogVersion == catalog.version() && Objects.equals(skills, freelancer.getSkills())
+                    && Objects.equals(experienceLevel, freelancer.getExperienceLevel())
+                    && Objects.equals(category, freelancer.getCategory());
+        }
+    }
 
-        int matchCount = 0;
-        int totalJobSkills = 0;
+    public long countMatchingFreelancers(Job job) {
+        return freelancerSkillIndex.countMatching(job.getRequiredSkills(), 30); // At least 30% match
+    }
 
-        for (String j : jArray) {
-            String trimmed = j.trim();
-            if (trimmed.isEmpty())
+    /**
+     * One page of active freelancers ranked for a job by match percentage,
+     * best first. Scored from the {@link FreelancerSkillIndex}, so only the
+     * freelancers on the page are loaded.
+     *
+     * @param limit           page size, or {@code null} for every candidate
+     * @param cursor          {@link CandidatePage#nextCursor()} of the previous page, or {@code null}
+     * @param minRating       lowest average rating to include, or {@code null}
+     * @param minCompleteness lowest profile completeness (0-100) to include, or {@code null}
+     */
+    public CandidatePage getCandidates(Long jobId, Integer limit, String cursor, Double minRating,
+            Integer minCompleteness) {
+        Job job = entityCache.findJob(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        TopScores topScores = new TopScores(limit != null ? limit : Integer.MAX_VALUE, ScoreCursor.decode(cursor));
+
+        // Candidates share a required skill or list a skill named in the job text
+        int[] skillIds = IntStream.concat(
+                Arrays.stream(skillDictionary.vectorOf(job.getRequiredSkills()).distinctIds()),
+                Arrays.stream(jobKeywordIndex.skillsIn(job))).distinct().toArray();
+        double ratingFloor = minRating != null ? minRating : 0;
+        int completenessFloor = minCompleteness != null ? minCompleteness : 0;
+        Set<Long> scored = new HashSet<>();
+        for (FreelancerSkillIndex.IndexedFreelancer candidate : freelancerSkillIndex.candidates(skillIds,
+                ratingFloor, completenessFloor)) {
+            scored.add(candidate.id());
+            offer(topScores, candidate, job);
+        }
+        // ...or only a compatible experience level, which is then all they score on. A level is
+        // shared by a large part of the pool, so its postings are only walked while that score
+        // can still make the page
+        for (String level : compatibleExperienceLevels(job.getExperienceLevel())) {
+            if (!topScores.accepts(calculateMatchPercentage(SkillVector.EMPTY, level, job))) {
                 continue;
-            totalJobSkills++;
-            for (String f : fArray) {
-                if (f.trim().equals(trimmed)) {
-                    matchCount++;
-                    break;
+            }
+            for (FreelancerSkillIndex.IndexedFreelancer candidate : freelancerSkillIndex.candidatesWithLevel(level,
+                    ratingFloor, completenessFloor)) {
+                if (!scored.contains(candidate.id())) {
+                    offer(topScores, candidate, job);
                 }
             }
         }
-        if (totalJobSkills == 0)
-            return 0;
-        return ((double) matchCount / totalJobSkills) * 100;
-    }
 
-    private static class JobScore {
-        Job job;
-        double score;
+        TopScores.Page page = topScores.page();
+        Map<Long, Freelancer> freelancersById = freelancerRepository
+                .findAllById(page.entries().stream().map(TopScores.Scored::id).collect(Collectors.toList()))
+                .stream()
+                .filter(freelancer -> freelancer.isActive() && !freelancer.isDeleted())
+                .collect(Collectors.toMap(Freelancer::getId, Function.identity()));
+        List<Candidate> ranked = page.entries().stream()
+                .filter(entry -> freelancersById.containsKey(entry.id()))
+                .map(entry -> new Candidate(freelancersById.get(entry.id()), entry.score()))
+                .collect(Collectors.toList());
+        return new CandidatePage(ranked, page.nextCursor());
+    }
 
-        JobScore(Job job, double score) {
-            this.job = job;
-            this.score = score;
+    private void offer(TopScores topScores, FreelancerSkillIndex.IndexedFreelancer candidate, Job job) {
+        double score = calculateMatchPercentage(candidate.skills(), candidate.experienceLevel(), job);
+        if (score > 0) {
+            topScores.offer(candidate.id(), score);
         }
     }
 
+    public record Candidate(Freelancer freelancer, double matchPercentage) {
+    }
+
+    public record CandidatePage(List<Candidate> candidates, String nextCursor) {
+    }
+
+    /**
+     * Percentage of the job's listed skills the freelancer has, computed on the
+     * cached skill vectors of both lists.
+     */
+    private double calculateSkillMatch(SkillVector freelancerSkills, String jSkills) {
+        if (jSkills == null)
+            return 0;
+        return skillDictionary.vectorOf(jSkills).coverageBy(freelancerSkills);
+    }
+
     /**
      * Calculate comprehensive match percentage for a freelancer and a job
      * 
@@ -110,17 +323,21 @@ public class JobService {
         if (freelancer == null || job == null) {
             return 0.0;
         }
+        return calculateMatchPercentage(skillDictionary.vectorOf(freelancer.getSkills()),
+                freelancer.getExperienceLevel(), job);
+    }
 
+    private double calculateMatchPercentage(SkillVector freelancerSkills, String freelancerExperience, Job job) {
         double totalScore = 0.0;
 
         // 1. Skills Match (70% weight) - Based on Required Skills
-        double skillMatch = calculateSkillMatch(freelancer.getSkills(), job.getRequiredSkills());
+        double skillMatch = calculateSkillMatch(freelancerSkills, job.getRequiredSkills());
         totalScore += skillMatch * 0.7;
 
         // 2. Experience Level Match (30% weight)
         double experienceScore = 0.0;
-        if (freelancer.getExperienceLevel() != null && job.getExperienceLevel() != null) {
-            String fExp = freelancer.getExperienceLevel().toUpperCase();
+        if (freelancerExperience != null && job.getExperienceLevel() != null) {
+            String fExp = freelancerExperience.toUpperCase();
             String jExp = job.getExperienceLevel().toUpperCase();
 
             if (fExp.equals(jExp)) {
@@ -136,7 +353,7 @@ public class JobService {
         // 3. Keyword Match (Bonus) - Adds up to 10% extra if skills match is low
         // This helps if the job description has skills not listed in 'requiredSkills'
         if (totalScore < 90) {
-            double keywordScore = calculateKeywordMatch(freelancer, job);
+            double keywordScore = calculateKeywordMatch(freelancerSkills, job);
             totalScore += (keywordScore * 0.1);
         }
 
@@ -147,23 +364,32 @@ public class JobService {
         return Math.round(totalScore * 100.0) / 100.0;
     }
 
-    private double calculateKeywordMatch(Freelancer freelancer, Job job) {
-        if (freelancer.getSkills() == null || freelancer.getSkills().trim().isEmpty()) {
-            return 0.0;
+    /**
+     * Upper-cased freelancer experience levels earning experience points for
+     * a job of the given level, mirroring the rules above.
+     */
+    private static List<String> compatibleExperienceLevels(String jobExperience) {
+        if (jobExperience == null) {
+            return List.of();
         }
+        String jExp = jobExperience.toUpperCase();
+        if (jExp.equals("INTERMEDIATE")) {
+            return List.of(jExp, "BEGINNER", "EXPERT");
+        }
+        if (jExp.equals("BEGINNER") || jExp.equals("EXPERT")) {
+            return List.of(jExp, "INTERMEDIATE");
+        }
+        return List.of(jExp);
+    }
 
-        String[] freelancerSkills = freelancer.getSkills().toLowerCase().split("[,;|\\n]+");
-        String jobText = (job.getTitle() + " " + (job.getDescription() != null ? job.getDescription() : ""))
-                .toLowerCase();
-
-        int matchCount = 0;
-        for (String skill : freelancerSkills) {
-            String trimmedSkill = skill.trim();
-            if (!trimmedSkill.isEmpty() && jobText.contains(trimmedSkill)) {
-                matchCount++;
-            }
+    private double calculateKeywordMatch(SkillVector freelancerSkills, Job job) {
+        if (freelancerSkills.isEmpty()) {
+            return 0.0;
         }
 
+        // Skills found in the title/description, matched in one pass when the job was indexed
+        int matchCount = jobKeywordIndex.countKeywordHits(freelancerSkills, job);
+
         // Divide by 5 (we consider 5 keyword matches to be a "full" keyword match)
         // rather than dividing by total freelancer skills (which penalizes broad
         // profiles)
@@ -0,0 +1,148 @@
+package com.freelancerconnect.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over a fixed list of patterns. One pass over a text
+ * reports every pattern occurring anywhere in it as a substring, which is
+ * what {@code text.contains(pattern)} would report for each pattern in turn.
+ * Immutable once built, so it can be shared between threads.
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_PATTERNS = new int[0];
+
+    private final int patternCount;
+
+    // Per node: outgoing edge labels (sorted) and their target nodes
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // Patterns ending exactly at a node, and the nearest node down the fail chain that ends one
+    private final int[][] outputs;
+    private final int[] outputLink;
+
+    private KeywordAutomaton(int patternCount, char[][] edgeChars, int[][] edgeTargets, int[] fail,
+            int[][] outputs, int[] outputLink) {
+        this.patternCount = patternCount;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * Build an automaton whose pattern ids are the positions in {@code patterns}.
+     */
+    public static KeywordAutomaton build(List<String> patterns) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ending = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ending.add(new ArrayList<>());
+
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = children.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(pattern.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    ending.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            ending.get(node).add(id);
+        }
+
+        int nodes = children.size();
+        char[][] edgeChars = new char[nodes][];
+        int[][] edgeTargets = new int[nodes][];
+        int[][] outputs = new int[nodes][];
+        for (int node = 0; node < nodes; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int e = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][e] = edge.getKey();
+                edgeTargets[node][e] = edge.getValue();
+                e++;
+            }
+            List<Integer> ids = ending.get(node);
+            outputs[node] = ids.isEmpty() ? NO_PATTERNS : ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // Breadth-first, so every fail target is finished before it is used
+        int[] fail = new int[nodes];
+        int[] outputLink = new int[nodes];
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = 0; e < edgeChars[node].length; e++) {
+                char c = edgeChars[node][e];
+                int child = edgeTargets[node][e];
+                int state = fail[node];
+                int next = step(edgeChars, edgeTargets, state, c);
+                while (next < 0 && state != ROOT) {
+                    state = fail[state];
+                    next = step(edgeChars, edgeTargets, state, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                outputLink[child] = outputs[fail[child]].length > 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return new KeywordAutomaton(patterns.size(), edgeChars, edgeTargets, fail, outputs, outputLink);
+    }
+
+    /** Number of pattern ids this automaton was built over. */
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * Ids of every pattern occurring in {@code text}, as a bitset.
+     */
+    public long[] scan(String text) {
+        long[] found = new long[(patternCount + 63) >> 6];
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = step(edgeChars, edgeTargets, state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = step(edgeChars, edgeTargets, state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int node = outputs[state].length > 0 ? state : outputLink[state]; node > ROOT; node = outputLink[node]) {
+                for (int id : outputs[node]) {
+                    found[id >> 6] |= 1L << id;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int e = Arrays.binarySearch(edgeChars[node], c);
+        return e >= 0 ? edgeTargets[node][e] : -1;
+    }
+}
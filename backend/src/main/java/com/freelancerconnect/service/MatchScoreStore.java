@@ -0,0 +1,160 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * In-memory store of {@link JobService#calculateMatchPercentage} results keyed
+ * by (freelancerId, jobId). Every stored score remembers a fingerprint of the
+ * job's and the profile's scoring inputs it was computed from, and is only
+ * returned for entities with the same inputs; otherwise it is recomputed
+ * from the entities passed in. Scores of changed or deleted jobs are never
+ * read again and give way to size eviction.
+ * <p>
+ * Scoring a whole listing is split into chunks and run on a dedicated
+ * fork/join pool once the list is large enough to be worth it.
+ */
+@Service
+public class MatchScoreStore {
+
+    // Bound on stored (freelancer, job) scores; each entry is a few dozen bytes
+    private static final int MAX_SCORES = 1_000_000;
+
+    // Jobs scored by one fork/join task
+    private static final int CHUNK_SIZE = 256;
+
+    @Autowired
+    private JobService jobService;
+
+    // Worker threads for scoring listings; 0 means one per available processor
+    @Value("${matching.scoring.parallelism:0}")
+    private int parallelism;
+
+    // Listings smaller than this are scored on the request thread
+    @Value("${matching.scoring.parallel-threshold:1000}")
+    private int parallelThreshold;
+
+    private ForkJoinPool scoringPool;
+
+    private final Cache<ScoreKey, StoredScore> scores = Caffeine.newBuilder()
+            .maximumSize(MAX_SCORES)
+            .build();
+
+    /**
+     * Match percentage of a freelancer for a job, computed only if the stored
+     * score is missing or was computed from other job or profile inputs.
+     */
+    public double getScore(Freelancer freelancer, Job job) {
+        if (freelancer == null || job == null || freelancer.getId() == null || job.getId() == null) {
+            return jobService.calculateMatchPercentage(freelancer, job);
+        }
+        int jobInputs = inputsOf(job);
+        int freelancerInputs = inputsOf(freelancer);
+
+        ScoreKey key = new ScoreKey(freelancer.getId(), job.getId());
+        StoredScore stored = scores.getIfPresent(key);
+        if (stored != null && stored.jobInputs() == jobInputs && stored.freelancerInputs() == freelancerInputs) {
+            return stored.score();
+        }
+        double score = jobService.calculateMatchPercentage(freelancer, job);
+        scores.put(key, new StoredScore(score, jobInputs, freelancerInputs));
+        return score;
+    }
+
+    /**
+     * Match percentages of a freelancer for every job in the list, in list
+     * order. Large lists are scored in parallel chunks.
+     */
+    public double[] getScores(Freelancer freelancer, List<Job> jobs) {
+        double[] scores = new double[jobs.size()];
+        if (scoringPool == null || jobs.size() < parallelThreshold) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = getScore(freelancer, jobs.get(i));
+            }
+        } else {
+            scoringPool.invoke(new ScoreChunk(freelancer, jobs, scores, 0, scores.length));
+        }
+        return scores;
+    }
+
+    // Drops every stored score; the benchmarks use it to measure cold scoring
+    void clear() {
+        scores.invalidateAll();
+    }
+
+    @PostConstruct
+    void startScoringPool() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (workers > 1) {
+            scoringPool = new ForkJoinPool(workers);
+        }
+    }
+
+    @PreDestroy
+    void stopScoringPool() {
+        if (scoringPool != null) {
+            scoringPool.shutdown();
+        }
+    }
+
+    // Fingerprints of what calculateMatchPercentage reads; String caches its hash, so these stay cheap
+    private static int inputsOf(Job job) {
+        return Objects.hash(job.getRequiredSkills(), job.getExperienceLevel(), job.getTitle(), job.getDescription());
+    }
+
+    private static int inputsOf(Freelancer freelancer) {
+        return Objects.hash(freelancer.getSkills(), freelancer.getExperienceLevel());
+    }
+
+    // Serializable only through ForkJoinTask; tasks are never serialized, so the inputs are transient
+    private class ScoreChunk extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Freelancer freelancer;
+        private final transient List<Job> jobs;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        ScoreChunk(Freelancer freelancer, List<Job> jobs, double[] scores, int from, int to) {
+            this.freelancer = freelancer;
+            this.jobs = jobs;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    scores[i] = getScore(freelancer, jobs.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreChunk(freelancer, jobs, scores, from, mid),
+                    new ScoreChunk(freelancer, jobs, scores, mid, to));
+        }
+    }
+
+    private record ScoreKey(Long freelancerId, Long jobId) {
+    }
+
+    private record StoredScore(double score, int jobInputs, int freelancerInputs) {
+    }
+}
@@ -4,7 +4,9 @@ import com.freelancerconnect.entity.Notification;
 import com.freelancerconnect.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -18,23 +20,71 @@ public class NotificationService {
     }
 
     public void createNotification(Long userId, String userRole, String message, String status) {
+        createNotification(userId, userRole, message, status, LocalDateTime.now());
+    }
+
+    private void createNotification(Long userId, String userRole, String message, String status,
+            LocalDateTime createdAt) {
         Notification notification = new Notification();
         notification.setUserId(userId);
         notification.setUserRole(userRole);
         notification.setMessage(message);
         notification.setStatus(status);
+        notification.setCreatedAt(createdAt);
         notificationRepository.save(notification);
     }
 
+    /**
+     * Notifications for a domain event, called by the {@link OutboxWorker}
+     * inside the transaction that marks the event processed. They are dated
+     * when the event happened, since events are not delivered in order.
+     */
+    public void handle(DomainEvent event, LocalDateTime occurredAt) {
+        switch (event) {
+            case DomainEvent.ApplicationSubmitted e -> {
+                // Notify Client
+                createNotification(e.clientId(), "CLIENT",
+                        "Freelancer " + e.freelancerName() + " applied for your job: " + e.jobTitle(), "APPLIED",
+                        occurredAt);
+                // Notify Freelancer
+                createNotification(e.freelancerId(), "FREELANCER", "You successfully applied for: " + e.jobTitle(),
+                        "APPLIED", occurredAt);
+            }
+            case DomainEvent.ApplicationStatusChanged e -> {
+                String message = switch (e.status()) {
+                    case "SHORTLISTED" -> "Your application for '" + e.jobTitle() + "' has been shortlisted.";
+                    case "INTERVIEW" -> "You are invited for an interview for '" + e.jobTitle() + "'.";
+                    case "ACCEPTED" -> "Congratulations! You have been hired for '" + e.jobTitle() + "'.";
+                    case "REJECTED" -> "Your application for '" + e.jobTitle() + "' was rejected.";
+                    default -> null;
+                };
+                if (message != null) {
+                    createNotification(e.freelancerId(), "FREELANCER", message, e.status(), occurredAt);
+                }
+            }
+            case DomainEvent.ProgressUpdated e -> {
+                if (e.completed()) {
+                    createNotification(e.clientId(), "CLIENT",
+                            "Project '" + e.jobTitle() + "' has been marked as COMPLETED by the freelancer.",
+                            "COMPLETED", occurredAt);
+                } else {
+                    createNotification(e.clientId(), "CLIENT", "Progress update for '" + e.jobTitle() + "' : "
+                            + e.progress() + "% - " + e.message(), "PROGRESS_UPDATE", occurredAt);
+                }
+            }
+            case DomainEvent.ConnectionRequested e -> createNotification(e.freelancerId(), "FREELANCER",
+                    "New connection request from client: " + e.clientName(), "CONNECTION", occurredAt);
+        }
+    }
+
     public List<Notification> getUserNotifications(Long userId, String userRole) {
         return notificationRepository.findByUserIdAndUserRoleOrderByCreatedAtDesc(userId, userRole);
     }
 
+    // One UPDATE of the unread rows rather than loading and saving the whole history
+    @Transactional
     public void markAllAsRead(Long userId, String userRole) {
-        List<Notification> notifications = notificationRepository.findByUserIdAndUserRoleOrderByCreatedAtDesc(userId,
-                userRole);
-        notifications.forEach(n -> n.setRead(true));
-        notificationRepository.saveAll(notifications);
+        notificationRepository.markAllAsRead(userId, userRole);
     }
 
     public void markAsRead(Long notificationId) {
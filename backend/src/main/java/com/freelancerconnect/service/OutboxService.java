@@ -0,0 +1,41 @@
+package com.freelancerconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancerconnect.entity.OutboxEvent;
+import com.freelancerconnect.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records domain events in the outbox. Side effects of a write (notifications
+ * so far) are recorded here instead of being carried out inline, and the
+ * {@link OutboxWorker} carries them out once the write has committed.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Queue an event. Must be called inside the transaction making the change
+     * the event describes, so that the two commit or roll back together.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(DomainEvent.typeOf(event));
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + outboxEvent.getEventType(), e);
+        }
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -0,0 +1,210 @@
+package com.freelancerconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancerconnect.entity.OutboxEvent;
+import com.freelancerconnect.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox: claims due events in batches and hands each to its
+ * handler on a fixed pool of worker threads. Polling runs on its own thread,
+ * so a long backlog never holds up the application's other scheduled tasks.
+ * <p>
+ * Delivery is at least once. A claim only leases an event for
+ * {@code outbox.lease-seconds}, so events held by a worker that died are
+ * picked up again, and failed events are retried with exponential backoff.
+ * An event that has failed {@code outbox.max-attempts} times is parked:
+ * it stays in the table with its last error but is no longer claimed.
+ * Handlers run in the same transaction that marks their event processed, and
+ * that mark is conditional, so database-only handlers take effect exactly
+ * once; handlers with outside effects must tolerate repeats.
+ */
+@Service
+public class OutboxWorker {
+
+    // Longest wait between attempts at a failing event
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Events claimed per round trip
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    // Threads handling a claimed batch
+    @Value("${outbox.workers:4}")
+    private int workers;
+
+    // How long a claimed event is kept from other workers before it counts as abandoned
+    @Value("${outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    // Failed attempts after which an event is parked instead of retried
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    // Pause between polls once the outbox has been drained
+    @Value("${outbox.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    // Processed events are deleted once they are this old
+    @Value("${outbox.retention-hours:168}")
+    private long retentionHours;
+
+    private ThreadPoolTaskScheduler poller;
+    private ExecutorService workerPool;
+    private TransactionTemplate transaction;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        workerPool = Executors.newFixedThreadPool(Math.max(1, workers));
+        transaction = new TransactionTemplate(transactionManager);
+        poller = new ThreadPoolTaskScheduler();
+        poller.setThreadNamePrefix("outbox-poller-");
+        poller.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        poller.scheduleWithFixedDelay(this::poll, Duration.ofMillis(pollIntervalMillis));
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.shutdown();
+        workerPool.shutdown();
+    }
+
+    /**
+     * Handle everything due, a batch at a time. The next batch is only claimed
+     * once the previous one is done, so no more than one batch per instance is
+     * ever in flight.
+     */
+    public void drain() throws InterruptedException {
+        List<OutboxEvent> batch;
+        do {
+            batch = claim();
+            List<Callable<Void>> tasks = batch.stream().<Callable<Void>>map(event -> () -> {
+                process(event);
+                return null;
+            }).toList();
+            workerPool.invokeAll(tasks);
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void deleteProcessed() {
+        transaction.executeWithoutResult(status -> outboxEventRepository
+                .deleteProcessedBefore(LocalDateTime.now().minusHours(retentionHours)));
+    }
+
+    /** Events waiting to be handled or parked, and counts since startup, for the admin dashboard. */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxEventRepository.countByProcessedAtIsNullAndParkedAtIsNull());
+        stats.put("parked", outboxEventRepository.countByParkedAtIsNotNull());
+        stats.put("delivered", delivered.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    private void poll() {
+        try {
+            drain();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Thrown by a claim; the next poll tries again
+            System.err.println("Polling the outbox failed: " + e.getMessage());
+        }
+    }
+
+    // Lock due events other workers are not holding and push them out of reach for the lease
+    private List<OutboxEvent> claim() {
+        return transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(event -> event.setAvailableAt(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                // Waits for, then skips, an event a slower worker is already handling
+                if (outboxEventRepository.markProcessed(event.getId(), LocalDateTime.now()) == 0) {
+                    return;
+                }
+                notificationService.handle(parse(event), event.getCreatedAt());
+            });
+            delivered.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            System.err.println("Outbox event " + event.getId() + " (" + event.getEventType() + ") failed: "
+                    + e.getMessage());
+            String message = String.valueOf(e.getMessage());
+            String error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+            // attempts is the count before this one
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                System.err.println("Outbox event " + event.getId() + " parked after " + (event.getAttempts() + 1)
+                        + " attempts");
+                transaction.executeWithoutResult(status -> outboxEventRepository.markParked(event.getId(),
+                        LocalDateTime.now(), error));
+                return;
+            }
+            long backoff = Math.min(1L << Math.min(event.getAttempts(), 20), MAX_BACKOFF_SECONDS);
+            transaction.executeWithoutResult(status -> outboxEventRepository.markFailed(event.getId(),
+                    LocalDateTime.now().plusSeconds(backoff), error));
+        }
+    }
+
+    private DomainEvent parse(OutboxEvent event) {
+        Class<? extends DomainEvent> type = DomainEvent.classOf(event.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown event type " + event.getEventType());
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.freelancerconnect.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Complete ranking of scored ids, in the order of {@link TopScores} (score
+ * highest first, then id lowest first). Sorted once, then any page is a
+ * binary search for its cursor and a copy of the entries on it, however deep
+ * it is.
+ */
+public final class RankedScores {
+
+    private final long[] ids;
+    private final double[] scores;
+
+    private RankedScores(long[] ids, double[] scores) {
+        this.ids = ids;
+        this.scores = scores;
+    }
+
+    /** Ranking of the given entries; duplicate ids are not expected. */
+    public static RankedScores of(List<TopScores.Scored> entries) {
+        TopScores.Scored[] sorted = entries.toArray(new TopScores.Scored[0]);
+        Arrays.sort(sorted, TopScores.RANKING);
+        long[] ids = new long[sorted.length];
+        double[] scores = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].id();
+            scores[i] = sorted[i].score();
+        }
+        return new RankedScores(ids, scores);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * The {@code limit} entries ranking right after the cursor (from the top
+     * without one), with the cursor of the last one when more remain.
+     */
+    public TopScores.Page page(int limit, ScoreCursor after) {
+        int from = after != null ? firstAfter(after) : 0;
+        int to = (int) Math.min((long) from + limit, ids.length);
+        List<TopScores.Scored> entries = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            entries.add(new TopScores.Scored(ids[i], scores[i]));
+        }
+        String nextCursor = to < ids.length && to > from
+                ? new ScoreCursor(scores[to - 1], ids[to - 1]).encode()
+                : null;
+        return new TopScores.Page(entries, nextCursor);
+    }
+
+    // Index of the first entry ranking strictly after the cursor; the ranking is sorted, so
+    // the entries before it are exactly those that do not
+    private int firstAfter(ScoreCursor after) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (after.isBefore(scores[mid], ids[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
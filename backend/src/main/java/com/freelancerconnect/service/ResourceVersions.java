@@ -0,0 +1,108 @@
+package com.freelancerconnect.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Change counters behind the ETags of the polled endpoints (job detail,
+ * freelancer profile, a client's job listing). An ETag is computed from the
+ * counters alone, so a matching {@code If-None-Match} is answered without
+ * loading anything.
+ * <p>
+ * Counters live in memory and start over on restart; the ETags carry a random
+ * per-process epoch so that tags issued before a restart never match again.
+ */
+@Service
+public class ResourceVersions {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Map<Long, Long> jobVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> profileVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> clientListingVersions = new ConcurrentHashMap<>();
+
+    // Runs after EntityCache has evicted the job, so a request that sees the new
+    // version also reads the new row
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.job() == null || event.job().getId() == null) {
+            return;
+        }
+        bump(jobVersions, event.job().getId());
+        if (event.job().getClientId() != null) {
+            bump(clientListingVersions, event.job().getClientId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onFreelancerChanged(FreelancerChangedEvent event) {
+        if (event.freelancer() != null && event.freelancer().getId() != null) {
+            profileChanged(event.freelancer().getId());
+        }
+    }
+
+    /** Record a change to a profile's projects or certifications. */
+    public void profileChanged(Long freelancerId) {
+        bump(profileVersions, freelancerId);
+    }
+
+    /** Record a change to something shown on a client's job cards other than the jobs themselves. */
+    public void clientListingChanged(Long clientId) {
+        bump(clientListingVersions, clientId);
+    }
+
+    /** ETag of a job, as seen by the given freelancer (match percentage included) or by anyone. */
+    public String jobETag(Long jobId, Long freelancerId) {
+        return freelancerId == null
+                ? eTag(jobVersions.getOrDefault(jobId, 0L))
+                : eTag(jobVersions.getOrDefault(jobId, 0L), profileVersions.getOrDefault(freelancerId, 0L));
+    }
+
+    public String profileETag(Long freelancerId) {
+        return eTag(profileVersions.getOrDefault(freelancerId, 0L));
+    }
+
+    public String clientListingETag(Long clientId) {
+        return eTag(clientListingVersions.getOrDefault(clientId, 0L));
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header names the given ETag. Weak
+     * comparison, as RFC 9110 asks for this header; {@code *} is left to the
+     * regular response handling.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String eTag(long... versions) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (long version : versions) {
+            tag.append('-').append(version);
+        }
+        return tag.append('"').toString();
+    }
+
+    private static void bump(Map<Long, Long> versions, Long id) {
+        if (id != null) {
+            versions.merge(id, 1L, Long::sum);
+        }
+    }
+}
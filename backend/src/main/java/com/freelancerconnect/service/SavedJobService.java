@@ -2,7 +2,6 @@ package com.freelancerconnect.service;
 
 import com.freelancerconnect.entity.Job;
 import com.freelancerconnect.entity.SavedJob;
-import com.freelancerconnect.repository.JobRepository;
 import com.freelancerconnect.repository.SavedJobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,7 +17,7 @@ public class SavedJobService {
     private SavedJobRepository savedJobRepository;
 
     @Autowired
-    private JobRepository jobRepository;
+    private EntityCache entityCache;
 
     public void saveJob(Long freelancerId, Long jobId) {
         if (!savedJobRepository.existsByFreelancerIdAndJobId(freelancerId, jobId)) {
@@ -36,9 +35,8 @@ public class SavedJobService {
 
     public List<Job> getSavedJobs(Long freelancerId) {
         List<SavedJob> savedJobs = savedJobRepository.findByFreelancerId(freelancerId);
-        return savedJobs.stream()
-                .map(sj -> jobRepository.findById(sj.getJobId()).orElse(null))
-                .filter(job -> job != null)
-                .collect(Collectors.toList());
+        // In saved order; saved ids whose job no longer exists are left out
+        return List.copyOf(entityCache.findJobs(
+                savedJobs.stream().map(SavedJob::getJobId).collect(Collectors.toList())).values());
     }
 }
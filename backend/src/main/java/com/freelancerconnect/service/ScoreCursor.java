@@ -0,0 +1,40 @@
+package com.freelancerconnect.service;
+
+/**
+ * Position in a list ranked by score (highest first) and then id (lowest
+ * first). Handed to clients as an opaque {@code score:id} string so the next
+ * page can resume right after the last item they received.
+ */
+public record ScoreCursor(double score, long id) {
+
+    /**
+     * Whether an entry ranks strictly after this cursor.
+     */
+    public boolean isBefore(double otherScore, long otherId) {
+        int byScore = Double.compare(otherScore, score);
+        return byScore < 0 || (byScore == 0 && otherId > id);
+    }
+
+    public String encode() {
+        return score + ":" + id;
+    }
+
+    /**
+     * Parse a cursor produced by {@link #encode()}; {@code null} or blank
+     * means "start from the top".
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ScoreCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf(':');
+        try {
+            return new ScoreCursor(Double.parseDouble(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.freelancerconnect.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Global dictionary giving every normalized skill (lower-cased, trimmed) a
+ * stable int id, and a cache of the {@link SkillVector}s built from the raw
+ * {@code Freelancer.skills} / {@code Job.requiredSkills} strings so each list
+ * is only split and resolved once.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\n]+");
+
+    // Keyed by the raw column value, so every distinct way of writing a skill
+    // list is its own entry; most rows repeat a few common lists, which stay
+    // cached while one-off lists are the ones evicted
+    private static final int MAX_CACHED_VECTORS = 100_000;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> skills = new ArrayList<>();
+    private final Cache<String, SkillVector> vectors = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_VECTORS)
+            .build();
+
+    /**
+     * Id of a normalized skill, assigning the next free id on first sight.
+     */
+    public int idOf(String skill) {
+        Integer id = ids.get(skill);
+        if (id != null) {
+            return id;
+        }
+        synchronized (skills) {
+            return ids.computeIfAbsent(skill, s -> {
+                skills.add(s);
+                return skills.size() - 1;
+            });
+        }
+    }
+
+    public String skillOf(int id) {
+        synchronized (skills) {
+            return skills.get(id);
+        }
+    }
+
+    /** Every skill assigned an id so far, indexed by id. */
+    public List<String> skills() {
+        synchronized (skills) {
+            return new ArrayList<>(skills);
+        }
+    }
+
+    /** Number of skills assigned an id so far. */
+    public int size() {
+        synchronized (skills) {
+            return skills.size();
+        }
+    }
+
+    /**
+     * Vector for a raw skill list, served from the cache when the same list
+     * has been resolved before.
+     */
+    public SkillVector vectorOf(String rawSkills) {
+        if (rawSkills == null) {
+            return SkillVector.EMPTY;
+        }
+        return vectors.get(rawSkills, this::resolve);
+    }
+
+    private SkillVector resolve(String rawSkills) {
+        List<String> tokens = tokenize(rawSkills);
+        int[] tokenIds = new int[tokens.size()];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = idOf(tokens.get(i));
+        }
+        return tokenIds.length == 0 ? SkillVector.EMPTY : new SkillVector(tokenIds);
+    }
+
+    /**
+     * Vector of the skills in a raw list that already have an id, without
+     * assigning ids or caching anything, for lists typed in by users that
+     * should not grow the dictionary. A skill without an id is one no job or
+     * freelancer lists, so it is simply left out.
+     */
+    public SkillVector lookup(String rawSkills) {
+        List<String> tokens = tokenize(rawSkills);
+        int[] tokenIds = new int[tokens.size()];
+        int known = 0;
+        for (String token : tokens) {
+            Integer id = ids.get(token);
+            if (id != null) {
+                tokenIds[known++] = id;
+            }
+        }
+        return known == 0 ? SkillVector.EMPTY : new SkillVector(Arrays.copyOf(tokenIds, known));
+    }
+
+    /**
+     * Split a comma/semicolon/pipe/newline separated skill list into
+     * lower-cased, trimmed, non-empty skills (duplicates kept).
+     */
+    public static List<String> tokenize(String rawSkills) {
+        List<String> tokens = new ArrayList<>();
+        if (rawSkills == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(rawSkills.toLowerCase())) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                tokens.add(trimmed);
+            }
+        }
+        return tokens;
+    }
+}
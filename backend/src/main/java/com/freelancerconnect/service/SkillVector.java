@@ -0,0 +1,95 @@
+package com.freelancerconnect.service;
+
+import java.util.Arrays;
+
+/**
+ * A skill list resolved against the {@link SkillDictionary}. Keeps one id per
+ * listed skill (duplicates included, since the job side counts every listed
+ * skill) plus the distinct ids as a bitset for allocation-free overlap checks.
+ */
+public final class SkillVector {
+
+    public static final SkillVector EMPTY = new SkillVector(new int[0]);
+
+    private final int[] tokens;
+    private final int[] distinctIds;
+    private final long[] bits;
+
+    SkillVector(int[] tokens) {
+        this.tokens = tokens;
+        this.distinctIds = Arrays.stream(tokens).distinct().sorted().toArray();
+        int maxId = distinctIds.length == 0 ? -1 : distinctIds[distinctIds.length - 1];
+        this.bits = new long[(maxId >> 6) + 1];
+        for (int id : distinctIds) {
+            bits[id >> 6] |= 1L << id;
+        }
+    }
+
+    /** Number of listed skills, duplicates included. */
+    public int size() {
+        return tokens.length;
+    }
+
+    public boolean isEmpty() {
+        return tokens.length == 0;
+    }
+
+    /** Dictionary id of every listed skill, in listing order. Do not modify. */
+    public int[] tokens() {
+        return tokens;
+    }
+
+    /** Distinct dictionary ids in ascending order. Do not modify. */
+    public int[] distinctIds() {
+        return distinctIds;
+    }
+
+    public boolean contains(int skillId) {
+        int word = skillId >> 6;
+        return word < bits.length && (bits[word] & (1L << skillId)) != 0;
+    }
+
+    public boolean intersects(SkillVector other) {
+        int words = Math.min(bits.length, other.bits.length);
+        for (int i = 0; i < words; i++) {
+            if ((bits[i] & other.bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * How many of this vector's listed skills also appear in {@code other}.
+     * A straight popcount of the bitset intersection unless this list repeats
+     * a skill, in which case every repetition has to be counted.
+     */
+    public int countMatchesIn(SkillVector other) {
+        if (distinctIds.length == tokens.length) {
+            int words = Math.min(bits.length, other.bits.length);
+            int matches = 0;
+            for (int i = 0; i < words; i++) {
+                matches += Long.bitCount(bits[i] & other.bits[i]);
+            }
+            return matches;
+        }
+        int matches = 0;
+        for (int id : tokens) {
+            if (other.contains(id)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Percentage (0-100) of this vector's listed skills covered by
+     * {@code other}; 0 when this vector is empty.
+     */
+    public double coverageBy(SkillVector other) {
+        if (tokens.length == 0) {
+            return 0;
+        }
+        return ((double) countMatchesIn(other) / tokens.length) * 100;
+    }
+}
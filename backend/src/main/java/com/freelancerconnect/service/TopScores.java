@@ -0,0 +1,75 @@
+package com.freelancerconnect.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded min-heap keeping the best {@code limit} ids offered to it, ranked
+ * by score (highest first) and then id (lowest first). Entries that do not
+ * rank after the optional cursor are ignored, so the same scan can serve any
+ * page. One extra entry is kept to tell whether another page exists.
+ */
+public class TopScores {
+
+    // Best-first ordering; the heap is kept in reverse so the weakest entry sits on top
+    static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparingLong(Scored::id);
+
+    private final int limit;
+    private final ScoreCursor after;
+    private final PriorityQueue<Scored> heap;
+
+    public TopScores(int limit, ScoreCursor after) {
+        this.limit = limit;
+        this.after = after;
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, RANKING.reversed());
+    }
+
+    public void offer(long id, double score) {
+        if (after != null && !after.isBefore(score, id)) {
+            return;
+        }
+        Scored candidate = new Scored(id, score);
+        if (heap.size() <= limit) {
+            heap.add(candidate);
+        } else if (RANKING.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * Whether an entry with this score could still be kept, for some id;
+     * lets a caller skip work whose best possible score is already beaten.
+     */
+    public boolean accepts(double score) {
+        if (after != null && Double.compare(score, after.score()) > 0) {
+            return false;
+        }
+        return heap.size() <= limit || Double.compare(score, heap.peek().score()) >= 0;
+    }
+
+    /**
+     * The best entries, best first, together with the cursor of the last one
+     * when more entries remain past it.
+     */
+    public Page page() {
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING);
+        if (ranked.size() <= limit) {
+            return new Page(ranked, null);
+        }
+        List<Scored> entries = Collections.unmodifiableList(ranked.subList(0, limit));
+        Scored last = entries.get(limit - 1);
+        return new Page(entries, new ScoreCursor(last.score(), last.id()).encode());
+    }
+
+    public record Scored(long id, double score) {
+    }
+
+    public record Page(List<Scored> entries, String nextCursor) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.freelancerconnect.controller;
+
+import com.freelancerconnect.entity.Application;
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import com.freelancerconnect.repository.ApplicationRepository;
+import com.freelancerconnect.repository.FreelancerRepository;
+import com.freelancerconnect.repository.JobRepository;
+import com.freelancerconnect.service.OutboxWorker;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements issued by the application lists: the applicants of a job and
+ * the applications of a freelancer resolve their freelancers or jobs in one
+ * lookup, however many applications there are.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureMockMvc
+class ApplicationListQueryCountTest {
+
+    private static final int APPLICATIONS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Polls the outbox on its own thread, which would add to the global statistics
+    @MockBean
+    private OutboxWorker outboxWorker;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void applicantsOfAJobTakeOneQueryForTheApplicationsAndOneForTheFreelancers() throws Exception {
+        Job job = jobRepository.save(job("Applicants"));
+        for (Freelancer freelancer : freelancers("applicant")) {
+            applicationRepository.save(application(job, freelancer));
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/api/applications/job/{jobId}", job.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(APPLICATIONS))
+                .andExpect(jsonPath("$[0].freelancerName").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // The freelancers are cached now; only the applications are read
+        statistics.clear();
+        mockMvc.perform(get("/api/applications/job/{jobId}", job.getId()))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void applicationsOfAFreelancerTakeOneQueryForTheApplicationsAndOneForTheJobs() throws Exception {
+        Freelancer freelancer = freelancerRepository.save(freelancer("applying"));
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applicationRepository.save(application(jobRepository.save(job("Job " + i)), freelancer));
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/api/applications/freelancer/{freelancerId}", freelancer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(APPLICATIONS))
+                .andExpect(jsonPath("$[0].jobTitle").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/applications/freelancer/{freelancerId}", freelancer.getId()))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private List<Freelancer> freelancers(String prefix) {
+        List<Freelancer> freelancers = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            freelancers.add(freelancerRepository.save(freelancer(prefix + i)));
+        }
+        return freelancers;
+    }
+
+    private static Freelancer freelancer(String username) {
+        Freelancer freelancer = new Freelancer();
+        freelancer.setFullName("Freelancer " + username);
+        freelancer.setUsername(username);
+        freelancer.setEmail(username + "@example.com");
+        freelancer.setPassword("secret");
+        freelancer.setSkills("Java, Spring");
+        freelancer.setExperienceLevel("EXPERT");
+        return freelancer;
+    }
+
+    private static Job job(String title) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setRequiredSkills("Java");
+        job.setStatus("OPEN");
+        job.setClientId(1L);
+        return job;
+    }
+
+    private static Application application(Job job, Freelancer freelancer) {
+        Application application = new Application();
+        application.setJobId(job.getId());
+        application.setFreelancerId(freelancer.getId());
+        application.setMatchPercentage(50.0);
+        application.setStatus("APPLIED");
+        return application;
+    }
+}
@@ -0,0 +1,78 @@
+package com.freelancerconnect.service;
+
+import com.freelancerconnect.entity.Freelancer;
+import com.freelancerconnect.entity.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Candidates of a job that lists skills: freelancers matching on experience
+ * level alone are ranked together with those sharing a skill.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureMockMvc
+class JobCandidatesTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private FreelancerService freelancerService;
+
+    // Same context as the other tests, which keep the outbox poller out of it
+    @MockBean
+    private OutboxWorker outboxWorker;
+
+    @Test
+    void levelOnlyFreelancerOutranksOneWithASingleWeakSkillHit() {
+        Job job = new Job();
+        job.setTitle("Functional rewrite");
+        job.setRequiredSkills("Haskell, Erlang, Elixir, OCaml, Clojure, Scala, FSharp, Racket, Prolog, Lisp");
+        job.setExperienceLevel("BEGINNER");
+        job.setStatus("OPEN");
+        job.setClientId(1L);
+        job = jobService.saveJob(job);
+
+        // 30 points: same level, no skill in common
+        Freelancer levelOnly = freelancerService.saveFreelancer(freelancer("levelonly", "Cobol", "BEGINNER"));
+        // 7 points: one of the ten skills, incompatible level
+        Freelancer oneSkill = freelancerService.saveFreelancer(freelancer("oneskill", "Haskell", "EXPERT"));
+
+        List<JobService.Candidate> firstPage = jobService.getCandidates(job.getId(), 1, null, null, null)
+                .candidates();
+        assertThat(firstPage).extracting(candidate -> candidate.freelancer().getId())
+                .containsExactly(levelOnly.getId());
+        assertThat(firstPage.get(0).matchPercentage()).isEqualTo(30.0);
+
+        List<JobService.Candidate> all = jobService.getCandidates(job.getId(), null, null, null, null).candidates();
+        assertThat(all).extracting(candidate -> candidate.freelancer().getId())
+                .containsExactly(levelOnly.getId(), oneSkill.getId());
+        assertThat(all.get(1).matchPercentage()).isEqualTo(7.0);
+    }
+
+    private static Freelancer freelancer(String username, String skills, String experienceLevel) {
+        Freelancer freelancer = new Freelancer();
+        freelancer.setFullName("Freelancer " + username);
+        freelancer.setUsername(username);
+        freelancer.setEmail(username + "@example.com");
+        freelancer.setPassword("secret");
+        freelancer.setSkills(skills);
+        freelancer.setExperienceLevel(experienceLevel);
+        return freelancer;
+    }
+}
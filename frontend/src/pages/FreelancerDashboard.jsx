@@ -29,27 +29,45 @@ const FreelancerDashboard = () => {
         localStorage.setItem(`savedJobs_${user.userId}`, JSON.stringify([...newSaved]));
     };
 
+    // The feed comes a page at a time; the header holds the cursor of the next page
+    const [nextCursor, setNextCursor] = useState(null);
+    const [appliedJobIds, setAppliedJobIds] = useState(new Set());
+    const [loadingMore, setLoadingMore] = useState(false);
+
+    // One page of jobs with match percentage, minus those already applied for
+    const fetchJobsPage = async (cursor, applied) => {
+        const params = new URLSearchParams({ freelancerId: user.userId });
+        if (cursor) params.set('cursor', cursor);
+        const jobsRes = await fetch(`${API_BASE_URL}/api/jobs/all?${params}`);
+        const jobsData = await jobsRes.json();
+        setNextCursor(jobsRes.headers.get('X-Next-Cursor'));
+        return Array.isArray(jobsData) ? jobsData.filter(job => !applied.has(job.id)) : [];
+    };
+
+    const loadMore = async () => {
+        setLoadingMore(true);
+        try {
+            const moreJobs = await fetchJobsPage(nextCursor, appliedJobIds);
+            setJobsList(prev => [...prev, ...moreJobs]);
+        } catch (err) {
+            console.error("Failed to fetch more jobs", err);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     useEffect(() => {
         const fetchData = async () => {
             try {
-                // Fetch all jobs with match percentage if freelancer logged in
-                const baseUrl = `${API_BASE_URL}/api/jobs/all`;
-                const jobsRes = await fetch(user.userId ? `${baseUrl}?freelancerId=${user.userId}` : baseUrl);
-                const jobsData = await jobsRes.json();
-
                 // Fetch freelancer's applications to filter out already applied jobs
                 const appsRes = await fetch(`${API_BASE_URL}/api/applications/freelancer/${user.userId}`);
                 const appsData = await appsRes.json();
 
-                const appliedJobIds = new Set(Array.isArray(appsData) ? appsData.map(app => app.jobId) : []);
+                const applied = new Set(Array.isArray(appsData) ? appsData.map(app => app.jobId) : []);
+                setAppliedJobIds(applied);
 
-                if (Array.isArray(jobsData)) {
-                    // Only show jobs that the freelancer HAS NOT applied for
-                    const availableJobs = jobsData.filter(job => !appliedJobIds.has(job.id));
-                    setJobsList(availableJobs);
-                } else {
-                    setJobsList([]);
-                }
+                // Only show jobs that the freelancer HAS NOT applied for
+                setJobsList(await fetchJobsPage(null, applied));
             } catch (err) {
                 console.error("Failed to fetch dashboard data", err);
                 setJobsList([]);
@@ -179,6 +197,18 @@ const FreelancerDashboard = () => {
                             <p className="text-gray-500">No jobs found matching your search.</p>
                         </div>
                     )}
+
+                    {nextCursor && (
+                        <div className="text-center">
+                            <button
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="px-6 py-3 border border-gray-200 rounded-lg hover:bg-gray-50 font-medium text-gray-700 disabled:opacity-50"
+                            >
+                                {loadingMore ? 'Loading...' : 'Load more jobs'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             </div>
         </div>
@@ -21,13 +21,16 @@ const SavedJobs = () => {
     useEffect(() => {
         const fetchJobs = async () => {
             try {
-                const res = await fetch(`${API_BASE_URL}/api/jobs/all`);
-                const data = await res.json();
-                if (Array.isArray(data)) {
-                    // Filter for jobs that are in the saved list
-                    const filtered = data.filter(job => savedJobIds.includes(job.id));
-                    setJobs(filtered);
+                // Look up only the saved jobs, at most 100 ids per batch request
+                const found = [];
+                for (let i = 0; i < savedJobIds.length; i += 100) {
+                    const ids = savedJobIds.slice(i, i + 100).join(',');
+                    const res = await fetch(`${API_BASE_URL}/api/jobs/batch?ids=${ids}&freelancerId=${user.userId}`);
+                    const data = await res.json();
+                    found.push(...Object.values(data || {}));
                 }
+                // Closed and deleted jobs are no longer listed
+                setJobs(found.filter(job => job.active));
             } catch (err) {
                 console.error("Failed to fetch jobs", err);
             } finally {